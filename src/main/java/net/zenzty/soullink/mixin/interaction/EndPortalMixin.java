@@ -8,7 +8,6 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import net.minecraft.advancement.criterion.Criteria;
 import net.minecraft.block.EndPortalBlock;
 import net.minecraft.entity.Entity;
-import net.minecraft.entity.boss.dragon.EnderDragonFight;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
@@ -17,7 +16,7 @@ import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.TeleportTarget;
 import net.minecraft.world.World;
 import net.zenzty.soullink.SoulLink;
-import net.zenzty.soullink.mixin.server.ServerWorldAccessor;
+import net.zenzty.soullink.server.run.EndInitializer;
 import net.zenzty.soullink.server.run.RunManager;
 
 /**
@@ -49,6 +48,19 @@ public abstract class EndPortalMixin {
         }
 
         RegistryKey<World> tempOverworld = runManager.getTemporaryOverworldKey();
+
+        // The End is created on first use by a player during the run; placing the eyes normally
+        // prewarmed it already
+        if (currentWorldKey.equals(tempOverworld)) {
+            if (runManager.isRunActive() && entity instanceof ServerPlayerEntity) {
+                runManager.ensureTemporaryEnd();
+            }
+            if (runManager.getTemporaryEndKey() == null) {
+                // No End yet: keep the entity here rather than sending it to the vanilla End
+                cir.setReturnValue(null);
+                return;
+            }
+        }
         RegistryKey<World> tempEnd = runManager.getTemporaryEndKey();
 
         if (tempOverworld == null || tempEnd == null) {
@@ -69,7 +81,7 @@ public abstract class EndPortalMixin {
             if (destinationWorld != null) {
                 // Initialize the End if first time entering (tracked by RunManager)
                 if (!runManager.isEndInitialized()) {
-                    if (initializeEnd(destinationWorld)) {
+                    if (EndInitializer.initialize(destinationWorld)) {
                         runManager.setEndInitialized(true);
                     }
                 }
@@ -125,60 +137,6 @@ public abstract class EndPortalMixin {
         }
     }
 
-    /**
-     * Initializes the End dimension by creating and injecting an EnderDragonFight. Fantasy
-     * temporary worlds don't automatically get one, so we create it manually.
-     */
-    @Unique
-    private boolean initializeEnd(ServerWorld endWorld) {
-        SoulLink.LOGGER.info("Initializing temporary End dimension...");
-
-        // Force-load the central chunks to ensure End island and structures are generated
-        // Load a smaller area to reduce server spike
-        for (int x = -2; x <= 2; x++) {
-            for (int z = -2; z <= 2; z++) {
-                endWorld.getChunk(x, z);
-            }
-        }
-        SoulLink.LOGGER.info("Loaded central End chunks");
-
-        // Check if EnderDragonFight already exists
-        EnderDragonFight existingFight = endWorld.getEnderDragonFight();
-
-        if (existingFight != null) {
-            SoulLink.LOGGER.info("EnderDragonFight already exists");
-            return true;
-        }
-
-        // Fantasy temporary worlds don't get EnderDragonFight automatically
-        // We need to create one and inject it using our accessor
-        SoulLink.LOGGER.info("Creating EnderDragonFight for temporary End world...");
-
-        try {
-            // Create a fresh EnderDragonFight with default state (dragon not yet killed)
-            EnderDragonFight dragonFight = new EnderDragonFight(endWorld, endWorld.getSeed(),
-                    EnderDragonFight.Data.DEFAULT);
-
-            // Inject it into the world using our accessor
-            ((ServerWorldAccessor) endWorld).setEnderDragonFight(dragonFight);
-
-            SoulLink.LOGGER.info("EnderDragonFight created and injected successfully");
-
-            // Verify it was set
-            EnderDragonFight verifyFight = endWorld.getEnderDragonFight();
-            if (verifyFight != null) {
-                SoulLink.LOGGER.info("Verified: EnderDragonFight is now active");
-                SoulLink.LOGGER.info("Temporary End initialization complete");
-                return true;
-            }
-        } catch (Exception e) {
-            SoulLink.LOGGER.error("Failed to create EnderDragonFight", e);
-        }
-
-        SoulLink.LOGGER.warn("Temporary End initialization failed");
-        return false;
-    }
-
     /**
      * Finds a safe spawn location in the overworld.
      */
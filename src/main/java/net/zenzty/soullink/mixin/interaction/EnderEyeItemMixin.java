@@ -0,0 +1,60 @@
+package net.zenzty.soullink.mixin.interaction;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import net.minecraft.block.Blocks;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.EnderEyeItem;
+import net.minecraft.item.ItemUsageContext;
+import net.minecraft.util.ActionResult;
+import net.minecraft.util.Hand;
+import net.minecraft.world.World;
+import net.zenzty.soullink.server.run.RunManager;
+
+/**
+ * Mixin for EnderEyeItem to create the temporary End ahead of time. Throwing an eye or placing one
+ * in a portal frame means the End will be needed soon, so its creation starts in the background.
+ */
+@Mixin(EnderEyeItem.class)
+public abstract class EnderEyeItemMixin {
+
+    /**
+     * Prewarm the End when an eye is placed in an End portal frame.
+     */
+    @Inject(method = "useOnBlock", at = @At("HEAD"))
+    private void onPlaceEye(ItemUsageContext context, CallbackInfoReturnable<ActionResult> cir) {
+        World world = context.getWorld();
+        if (world.getBlockState(context.getBlockPos()).isOf(Blocks.END_PORTAL_FRAME)) {
+            prewarmEnd(world);
+        }
+    }
+
+    /**
+     * Prewarm the End when an eye is thrown to locate a stronghold.
+     */
+    @Inject(method = "use", at = @At("HEAD"))
+    private void onThrowEye(World world, PlayerEntity user, Hand hand,
+            CallbackInfoReturnable<ActionResult> cir) {
+        prewarmEnd(world);
+    }
+
+    @Unique
+    private void prewarmEnd(World world) {
+        if (world.isClient()) {
+            return;
+        }
+
+        RunManager runManager = RunManager.getInstance();
+        if (runManager == null || !runManager.isRunActive()) {
+            return;
+        }
+
+        // Only the temporary Overworld leads to the temporary End
+        if (world.getRegistryKey().equals(runManager.getTemporaryOverworldKey())) {
+            runManager.prewarmEnd();
+        }
+    }
+}
@@ -53,6 +53,11 @@ public abstract class NetherPortalMixin {
         }
 
         RegistryKey<World> tempOverworld = runManager.getTemporaryOverworldKey();
+
+        // The Nether is created on first use; lighting the portal normally prewarmed it already
+        if (currentWorldKey.equals(tempOverworld)) {
+            runManager.ensureTemporaryNether();
+        }
         RegistryKey<World> tempNether = runManager.getTemporaryNetherKey();
 
         if (tempOverworld == null || tempNether == null) {
@@ -6,6 +6,7 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.zenzty.soullink.server.event.TickProfiler;
 import net.zenzty.soullink.server.health.SharedStatsHandler;
 import net.zenzty.soullink.server.run.RunManager;
 
@@ -33,6 +34,9 @@ public abstract class AbsorptionMixin {
         }
 
         // Sync the absorption change
+        long start = TickProfiler.start();
+        SharedStatsHandler.markTouched(player);
         SharedStatsHandler.onAbsorptionChanged(player, amount);
+        TickProfiler.stop(TickProfiler.Section.ABSORPTION_HOOK, start);
     }
 }
@@ -9,6 +9,8 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import net.minecraft.entity.player.HungerManager;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
+import net.zenzty.soullink.server.event.TickProfiler;
+import net.zenzty.soullink.server.health.HungerSimulation;
 import net.zenzty.soullink.server.health.SharedStatsHandler;
 import net.zenzty.soullink.server.run.RunManager;
 
@@ -24,12 +26,41 @@ public abstract class HungerManagerMixin {
     @Shadow
     private float saturationLevel;
 
+    @Shadow
+    private float exhaustion;
+
     @Unique
     private int previousFoodLevel = 20;
 
     @Unique
     private float previousSaturation = 5.0f;
 
+    /**
+     * With central hunger simulation, a linked player's own hunger tick is skipped: food eaten
+     * since the last tick is reported as a gain and their exhaustion is handed to the group's
+     * simulation.
+     */
+    @Inject(method = "update", at = @At("HEAD"), cancellable = true)
+    private void beforeHungerUpdate(ServerPlayerEntity player, CallbackInfo ci) {
+        if (!HungerSimulation.suppressesHungerTick(player))
+            return;
+
+        long start = TickProfiler.start();
+        int foodGain = this.foodLevel - previousFoodLevel;
+        float satGain = this.saturationLevel - previousSaturation;
+        if (foodGain != 0 || Math.abs(satGain) > 0.01f) {
+            SharedStatsHandler.markTouched(player);
+            SharedStatsHandler.onPlayerHungerChanged(player, foodGain, satGain);
+        }
+        previousFoodLevel = this.foodLevel;
+        previousSaturation = this.saturationLevel;
+
+        HungerSimulation.contribute(player, this.exhaustion);
+        this.exhaustion = 0.0f;
+        TickProfiler.stop(TickProfiler.Section.HUNGER_HOOK, start);
+        ci.cancel();
+    }
+
     /**
      * After each hunger update tick, check if values changed and sync. Note: In 1.21.11,
      * HungerManager.update() takes ServerPlayerEntity directly.
@@ -67,6 +98,9 @@ public abstract class HungerManagerMixin {
         boolean satChanged = Math.abs(this.saturationLevel - previousSaturation) > 0.01f;
 
         if (foodChanged || satChanged) {
+            long start = TickProfiler.start();
+            SharedStatsHandler.markTouched(player);
+
             // Determine if this is hunger drain (decrease) or hunger gain (eating)
             boolean isHungerDrain = this.foodLevel < previousFoodLevel
                     || this.saturationLevel < previousSaturation - 0.01f;
@@ -80,12 +114,14 @@ public abstract class HungerManagerMixin {
                 SharedStatsHandler.onNaturalHungerDrain(player, foodDrain, satDrain);
             } else {
                 // Hunger gain (eating) - sync normally
-                SharedStatsHandler.onPlayerHungerChanged(player, this.foodLevel,
-                        this.saturationLevel);
+                SharedStatsHandler.onPlayerHungerChanged(player,
+                        this.foodLevel - previousFoodLevel,
+                        this.saturationLevel - previousSaturation);
             }
 
             previousFoodLevel = this.foodLevel;
             previousSaturation = this.saturationLevel;
+            TickProfiler.stop(TickProfiler.Section.HUNGER_HOOK, start);
         }
     }
 
@@ -6,6 +6,7 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.zenzty.soullink.server.event.TickProfiler;
 import net.zenzty.soullink.server.health.SharedJumpHandler;
 
 /**
@@ -26,6 +27,8 @@ public abstract class JumpMixin {
         }
 
         // Delegate to the handler
+        long start = TickProfiler.start();
         SharedJumpHandler.onPlayerJump(player);
+        TickProfiler.stop(TickProfiler.Section.JUMP_HOOK, start);
     }
 }
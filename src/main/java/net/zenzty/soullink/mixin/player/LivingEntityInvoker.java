@@ -0,0 +1,23 @@
+package net.zenzty.soullink.mixin.player;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Invoker;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.effect.StatusEffectInstance;
+
+/**
+ * Invoker mixin for the status effect hooks of LivingEntity. Shared potions write synced effects
+ * straight into a player's effect map and then run these hooks, so attribute modifiers, criteria
+ * and the effect packet are handled without going through addStatusEffect again.
+ */
+@Mixin(LivingEntity.class)
+public interface LivingEntityInvoker {
+
+    @Invoker("onStatusEffectApplied")
+    void invokeOnStatusEffectApplied(StatusEffectInstance effect, Entity source);
+
+    @Invoker("onStatusEffectUpgraded")
+    void invokeOnStatusEffectUpgraded(StatusEffectInstance effect, boolean reapplyEffect,
+            Entity source);
+}
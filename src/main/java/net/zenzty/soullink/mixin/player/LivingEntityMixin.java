@@ -8,8 +8,10 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.zenzty.soullink.server.event.TickProfiler;
 import net.zenzty.soullink.server.health.SharedStatsHandler;
 import net.zenzty.soullink.server.run.RunManager;
+import net.zenzty.soullink.server.settings.Settings;
 
 /**
  * Mixin for LivingEntity to intercept healing for ServerPlayerEntity instances.
@@ -22,6 +24,16 @@ public abstract class LivingEntityMixin {
     @Unique
     private float preHealHealth;
 
+    /**
+     * Any health write outside the sync path marks the player for the next drift check.
+     */
+    @Inject(method = "setHealth", at = @At("TAIL"))
+    private void onSetHealth(float health, CallbackInfo ci) {
+        if ((Object) this instanceof ServerPlayerEntity player) {
+            SharedStatsHandler.markTouched(player);
+        }
+    }
+
     @Inject(method = "heal", at = @At("HEAD"))
     private void recordPreHeal(float amount, CallbackInfo ci) {
         if ((Object) this instanceof ServerPlayerEntity player) {
@@ -54,11 +66,15 @@ public abstract class LivingEntityMixin {
         if (applied <= 0)
             return;
 
+        long start = TickProfiler.start();
+
         // Small heal amounts (<=NATURAL_REGEN_THRESHOLD) typically indicate natural regeneration
         // from saturation. Exclude potion-based regeneration.
         // Divide by player count to normalize regen speed
+        // With central hunger simulation players never regenerate from food themselves
         boolean isNaturalRegen = applied <= NATURAL_REGEN_THRESHOLD
-                && !player.hasStatusEffect(StatusEffects.REGENERATION);
+                && !player.hasStatusEffect(StatusEffects.REGENERATION)
+                && !Settings.getInstance().isCentralHungerSimulation();
         if (isNaturalRegen) {
             // Let SharedStatsHandler handle the normalized regen
             SharedStatsHandler.onNaturalRegen(player, applied);
@@ -68,8 +84,10 @@ public abstract class LivingEntityMixin {
             SharedStatsHandler.onRegenerationHeal(player, applied);
         } else {
             // Larger heals (potions, golden apples) sync normally
-            SharedStatsHandler.onPlayerHealed(player, player.getHealth());
+            SharedStatsHandler.onPlayerHealed(player, applied);
         }
+
+        TickProfiler.stop(TickProfiler.Section.HEAL_HOOK, start);
     }
 }
 
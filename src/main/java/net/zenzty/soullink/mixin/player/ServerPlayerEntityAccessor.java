@@ -0,0 +1,23 @@
+package net.zenzty.soullink.mixin.player;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+/**
+ * Accessor mixin for the last health/food values ServerPlayerEntity sent to its client. When shared
+ * stats send their own health update packet, these are set to match so the vanilla player tick
+ * does not send a duplicate.
+ */
+@Mixin(ServerPlayerEntity.class)
+public interface ServerPlayerEntityAccessor {
+
+    @Accessor("syncedHealth")
+    void setSyncedHealth(float health);
+
+    @Accessor("syncedFoodLevel")
+    void setSyncedFoodLevel(int foodLevel);
+
+    @Accessor("syncedSaturationIsZero")
+    void setSyncedSaturationIsZero(boolean saturationIsZero);
+}
@@ -2,28 +2,116 @@ package net.zenzty.soullink.mixin.player;
 
 import java.util.List;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.effect.StatusEffect;
 import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.network.packet.Packet;
 import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.server.network.ServerPlayNetworkHandler;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
+import net.minecraft.world.GameMode;
 import net.zenzty.soullink.SoulLink;
 import net.zenzty.soullink.server.event.EventRegistry;
+import net.zenzty.soullink.server.health.EffectBatch;
+import net.zenzty.soullink.server.health.ParticipantHolder;
+import net.zenzty.soullink.server.health.SharedStatsHandler;
+import net.zenzty.soullink.server.health.SoulLinkGroup;
+import net.zenzty.soullink.server.health.SoulLinkParticipants;
 import net.zenzty.soullink.server.manhunt.ManhuntManager;
 import net.zenzty.soullink.server.run.RunManager;
 import net.zenzty.soullink.server.settings.Settings;
 
 /**
  * Mixin for ServerPlayerEntity: Runners (and non-Manhunt) trigger game over on death. Hunters use
- * custom respawn (spectator, drop items, 5s countdown, respawn).
+ * custom respawn (spectator, drop items, 5s countdown, respawn). Also stores the player's Soul Link
+ * group, member index, ledger health baseline and drift version stamps, and keeps membership
+ * current across gamemode changes.
  */
 @Mixin(ServerPlayerEntity.class)
-public abstract class ServerPlayerEntityMixin {
+public abstract class ServerPlayerEntityMixin implements ParticipantHolder {
+
+        @Unique
+        private int soullink$participantIndex = -1;
+
+        @Override
+        public int soullink$getParticipantIndex() {
+                return this.soullink$participantIndex;
+        }
+
+        @Override
+        public void soullink$setParticipantIndex(int index) {
+                this.soullink$participantIndex = index;
+        }
+
+        @Unique
+        private SoulLinkGroup soullink$group;
+
+        @Override
+        public SoulLinkGroup soullink$getGroup() {
+                return this.soullink$group;
+        }
+
+        @Override
+        public void soullink$setGroup(SoulLinkGroup group) {
+                this.soullink$group = group;
+        }
+
+        @Unique
+        private float soullink$observedHealth = Float.NaN;
+
+        @Override
+        public float soullink$getObservedHealth() {
+                return this.soullink$observedHealth;
+        }
+
+        @Override
+        public void soullink$setObservedHealth(float health) {
+                this.soullink$observedHealth = health;
+        }
+
+        @Unique
+        private int soullink$touchVersion = 0;
+
+        @Unique
+        private int soullink$syncedVersion = 0;
+
+        @Override
+        public int soullink$getTouchVersion() {
+                return this.soullink$touchVersion;
+        }
+
+        @Override
+        public void soullink$setTouchVersion(int version) {
+                this.soullink$touchVersion = version;
+        }
+
+        @Override
+        public int soullink$getSyncedVersion() {
+                return this.soullink$syncedVersion;
+        }
+
+        @Override
+        public void soullink$setSyncedVersion(int version) {
+                this.soullink$syncedVersion = version;
+        }
+
+        /**
+         * Spectators do not share stats, so re-evaluate membership whenever the gamemode changes.
+         */
+        @Inject(method = "changeGameMode", at = @At("RETURN"))
+        private void onGameModeChanged(GameMode gameMode, CallbackInfoReturnable<Boolean> cir) {
+                if (cir.getReturnValueZ()) {
+                        SoulLinkParticipants.refresh((ServerPlayerEntity) (Object) this);
+                }
+        }
 
         @Inject(method = "onDeath", at = @At("HEAD"), cancellable = true)
         private void onDeathHandler(DamageSource damageSource, CallbackInfo ci) {
@@ -39,15 +127,16 @@ public abstract class ServerPlayerEntityMixin {
                         SoulLink.LOGGER.info("Hunter {} died - triggering custom respawn",
                                         player.getName().getString());
                         ci.cancel();
-                        player.setHealth(player.getMaxHealth());
+                        SharedStatsHandler.writeHealth(player, player.getMaxHealth());
                         EventRegistry.handleHunterDeath(player, damageSource, runManager);
                         return;
                 }
 
-                SoulLink.LOGGER.info("Player {} died during active run - triggering game over",
+                SoulLink.LOGGER.info("Player {} died during active run - eliminating their group",
                                 player.getName().getString());
 
                 ci.cancel();
+                SoulLinkGroup group = SoulLinkParticipants.getGroup(player);
 
                 Text deathMessage = damageSource.getDeathMessage(player);
                 Text formattedDeathMessage = Text.empty().append(RunManager.getPrefix())
@@ -55,7 +144,7 @@ public abstract class ServerPlayerEntityMixin {
                                 .append(deathMessage.copy().formatted(Formatting.RED));
                 runManager.getServer().getPlayerManager().broadcast(formattedDeathMessage, false);
 
-                player.setHealth(player.getMaxHealth());
+                SharedStatsHandler.writeHealth(player, player.getMaxHealth());
 
                 List<RegistryEntry<StatusEffect>> effectsToRemove = player.getStatusEffects()
                                 .stream()
@@ -65,15 +154,30 @@ public abstract class ServerPlayerEntityMixin {
                 effectsToRemove.forEach(player::removeStatusEffect);
                 player.extinguish();
 
+                // Ends the run if no other group is left
                 if (!runManager.isGameOver()) {
                         net.minecraft.server.MinecraftServer server = runManager.getServer();
                         if (server != null) {
                                 server.execute(() -> {
                                         if (!runManager.isGameOver()) {
-                                                runManager.triggerGameOver();
+                                                runManager.eliminateGroup(group);
                                         }
                                 });
                         }
                 }
         }
+
+        /**
+         * Holds back effect packets while shared potions apply a batch of effects to this player,
+         * so they can be sent as one bundle.
+         */
+        @Redirect(method = {"onStatusEffectApplied", "onStatusEffectUpgraded"},
+                        at = @At(value = "INVOKE",
+                                        target = "Lnet/minecraft/server/network/ServerPlayNetworkHandler;sendPacket(Lnet/minecraft/network/packet/Packet;)V"))
+        private void soullink$collectEffectPacket(ServerPlayNetworkHandler handler,
+                        Packet<?> packet) {
+                if (!EffectBatch.collect((ServerPlayerEntity) (Object) this, packet)) {
+                        handler.sendPacket(packet);
+                }
+        }
 }
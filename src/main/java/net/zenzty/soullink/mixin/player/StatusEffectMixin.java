@@ -8,6 +8,7 @@ import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.zenzty.soullink.server.event.TickProfiler;
 import net.zenzty.soullink.server.health.SharedPotionHandler;
 
 /**
@@ -30,6 +31,7 @@ public abstract class StatusEffectMixin {
         }
 
         // Check if potion syncing allows this effect
+        long start = TickProfiler.start();
         try {
             if (!SharedPotionHandler.onEffectApplied(player, effect, source)) {
                 cir.setReturnValue(false);
@@ -38,6 +40,8 @@ public abstract class StatusEffectMixin {
         } catch (Exception e) {
             net.zenzty.soullink.SoulLink.LOGGER.error(
                     "Error in SharedPotionHandler.onEffectApplied - allowing vanilla behavior", e);
+        } finally {
+            TickProfiler.stop(TickProfiler.Section.EFFECT_HOOK, start);
         }
     }
 }
@@ -1,14 +1,21 @@
 package net.zenzty.soullink.server.command;
 
+import java.util.List;
 import com.mojang.brigadier.Command;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.context.CommandContext;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
 import net.minecraft.server.command.CommandManager;
 import net.minecraft.server.command.ServerCommandSource;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.text.MutableText;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
-import net.zenzty.soullink.server.health.SharedStatsHandler;
+import net.zenzty.soullink.server.event.TickProfiler;
+import net.zenzty.soullink.server.health.SoulLinkGroup;
+import net.zenzty.soullink.server.health.SoulLinkParticipants;
+import net.zenzty.soullink.server.health.StatJournal;
+import net.zenzty.soullink.server.health.Vitals;
 import net.zenzty.soullink.server.manhunt.SpeedrunnerSelectorGui;
 import net.zenzty.soullink.server.run.RunManager;
 import net.zenzty.soullink.server.settings.Settings;
@@ -16,7 +23,8 @@ import net.zenzty.soullink.server.settings.SettingsGui;
 import net.zenzty.soullink.server.settings.SettingsInfoGui;
 
 /**
- * Registers all mod commands: /start, /stoprun, /runinfo, /settings, /chaos, /reset
+ * Registers all mod commands: /start, /stoprun, /runinfo, /runinfo journal, /settings, /chaos,
+ * /reset, /soullink perf
  */
 public class CommandRegistry {
 
@@ -39,8 +47,24 @@ public class CommandRegistry {
                                                         .executes(CommandRegistry::handleStopRun));
 
                                         // /runinfo - Display current run info
+                                        // /runinfo journal [count] - Show recent stat mutations
+                                        // (requires gamemaster permission)
                                         dispatcher.register(CommandManager.literal("runinfo")
-                                                        .executes(CommandRegistry::handleRunInfo));
+                                                        .executes(CommandRegistry::handleRunInfo)
+                                                        .then(CommandManager.literal("journal")
+                                                                        .requires(CommandManager
+                                                                                        .requirePermissionLevel(
+                                                                                                        CommandManager.GAMEMASTERS_CHECK))
+                                                                        .executes(context -> handleJournal(
+                                                                                        context, 10))
+                                                                        .then(CommandManager.argument(
+                                                                                        "count",
+                                                                                        IntegerArgumentType
+                                                                                                        .integer(1, 100))
+                                                                                        .executes(context -> handleJournal(
+                                                                                                        context,
+                                                                                                        IntegerArgumentType
+                                                                                                                        .getInteger(context, "count"))))));
 
                                         // /chaos - Open the chaos settings GUI (difficulty, half
                                         // heart, etc.)
@@ -55,6 +79,18 @@ public class CommandRegistry {
                                         // /reset - Manually reset the current run
                                         dispatcher.register(CommandManager.literal("reset")
                                                         .executes(CommandRegistry::handleReset));
+
+                                        // /soullink perf [reset] - Show or clear the mod's tick
+                                        // cost per phase (requires gamemaster permission)
+                                        dispatcher.register(CommandManager.literal("soullink")
+                                                        .requires(CommandManager
+                                                                        .requirePermissionLevel(
+                                                                                        CommandManager.GAMEMASTERS_CHECK))
+                                                        .then(CommandManager.literal("perf")
+                                                                        .executes(CommandRegistry::handlePerf)
+                                                                        .then(CommandManager.literal(
+                                                                                        "reset")
+                                                                                        .executes(CommandRegistry::handlePerfReset))));
                                 });
         }
 
@@ -131,6 +167,18 @@ public class CommandRegistry {
                         return 0;
                 }
 
+                // Show the caller's group, or the first group for console/non-participants
+                SoulLinkGroup group = null;
+                if (context.getSource().getEntity() instanceof ServerPlayerEntity player) {
+                        group = SoulLinkParticipants.getGroup(player);
+                }
+                if (group == null && !SoulLinkParticipants.groups().isEmpty()) {
+                        group = SoulLinkParticipants.groups().get(0);
+                }
+                Vitals vitals = group != null ? group.vitals() : null;
+                String healthText = vitals != null ? String.format("%.1f", vitals.health()) : "-";
+                String hungerText = vitals != null ? String.valueOf(vitals.hunger()) : "-";
+
                 Text info = Text.empty().append(RunManager.getPrefix())
                                 .append(Text.literal("State: ").formatted(Formatting.GRAY))
                                 .append(Text.literal(runManager.getGameState().name())
@@ -139,19 +187,70 @@ public class CommandRegistry {
                                 .append(Text.literal(runManager.getFormattedTime())
                                                 .formatted(Formatting.WHITE))
                                 .append(Text.literal(" | Health: ").formatted(Formatting.GRAY))
-                                .append(Text.literal(String.format("%.1f",
-                                                SharedStatsHandler.getSharedHealth()))
-                                                .formatted(Formatting.WHITE))
+                                .append(Text.literal(healthText).formatted(Formatting.WHITE))
                                 .append(Text.literal(" | Hunger: ").formatted(Formatting.GRAY))
-                                .append(Text.literal(String
-                                                .valueOf(SharedStatsHandler.getSharedHunger()))
-                                                .formatted(Formatting.WHITE));
+                                .append(Text.literal(hungerText).formatted(Formatting.WHITE));
 
                 context.getSource().sendFeedback(() -> info, false);
 
                 return Command.SINGLE_SUCCESS;
         }
 
+        private static int handleJournal(CommandContext<ServerCommandSource> context, int count) {
+                List<String> lines = StatJournal.tail(count);
+                String lastFile = StatJournal.getLastFile();
+                if (lines.isEmpty()) {
+                        String text = lastFile != null
+                                        ? "Stat journal is empty. Last saved to " + lastFile + "."
+                                        : "Stat journal is empty.";
+                        context.getSource().sendFeedback(() -> RunManager.formatMessage(text),
+                                        false);
+                        return Command.SINGLE_SUCCESS;
+                }
+
+                MutableText message = Text.empty().append(RunManager.getPrefix())
+                                .append(Text.literal("Last " + lines.size() + " stat mutations:")
+                                                .formatted(Formatting.GRAY));
+                for (String line : lines) {
+                        message.append(Text.literal("\n" + line).formatted(Formatting.WHITE));
+                }
+                if (lastFile != null) {
+                        message.append(Text.literal("\nLast saved to " + lastFile)
+                                        .formatted(Formatting.GRAY));
+                }
+                context.getSource().sendFeedback(() -> message, false);
+
+                return Command.SINGLE_SUCCESS;
+        }
+
+        private static int handlePerf(CommandContext<ServerCommandSource> context) {
+                List<String> lines = TickProfiler.report();
+                if (lines.isEmpty()) {
+                        context.getSource().sendFeedback(
+                                        () -> RunManager.formatMessage("No tick samples yet."),
+                                        false);
+                        return Command.SINGLE_SUCCESS;
+                }
+
+                MutableText message = Text.empty().append(RunManager.getPrefix())
+                                .append(Text.literal("Tick cost per phase (ms per tick, "
+                                                + "hooks inside a phase count only as hooks):")
+                                                .formatted(Formatting.GRAY));
+                for (String line : lines) {
+                        message.append(Text.literal("\n" + line).formatted(Formatting.WHITE));
+                }
+                context.getSource().sendFeedback(() -> message, false);
+
+                return Command.SINGLE_SUCCESS;
+        }
+
+        private static int handlePerfReset(CommandContext<ServerCommandSource> context) {
+                TickProfiler.reset();
+                context.getSource().sendFeedback(
+                                () -> RunManager.formatMessage("Tick profiler reset."), false);
+                return Command.SINGLE_SUCCESS;
+        }
+
         private static int handleChaos(CommandContext<ServerCommandSource> context) {
                 if (context.getSource().getEntity() instanceof ServerPlayerEntity player) {
                         SettingsGui.open(player);
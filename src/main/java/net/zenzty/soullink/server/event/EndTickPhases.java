@@ -0,0 +1,95 @@
+package net.zenzty.soullink.server.event;
+
+import java.util.function.Consumer;
+import net.minecraft.server.MinecraftServer;
+
+/**
+ * Ordered end-of-tick resolution phases. Each phase has one resolver registered at startup, and
+ * {@link #drain(MinecraftServer)} runs them in declaration order from the END_SERVER_TICK hook, so
+ * deferred work (forced jumps, splash potions, the shared stat flush) resolves at a fixed point of
+ * the same tick instead of on a later task pass.
+ *
+ * Phases marked as on-request only run in ticks where a handler called {@link #request(Phase)};
+ * requesting is just a flag, so handlers submit no task per event. All access happens on the server
+ * thread.
+ */
+public final class EndTickPhases {
+
+    /**
+     * Resolution phases in execution order.
+     */
+    public enum Phase {
+        // Force jumps for group members who did not jump themselves
+        JUMPS(false, TickProfiler.Section.JUMPS),
+        // Resolve splash instant effects and clear effect dedup state
+        POTIONS(false, TickProfiler.Section.POTIONS),
+        // Central hunger simulation
+        HUNGER(true, TickProfiler.Section.HUNGER),
+        // Apply the shared stat ledgers
+        STATS_FLUSH(true, TickProfiler.Section.STATS_FLUSH),
+        // Drift repair
+        STATS_SYNC(true, TickProfiler.Section.STATS_SYNC),
+        // Broadcast merged combat log lines
+        COMBAT_LOG(true, TickProfiler.Section.COMBAT_LOG);
+
+        private static final Phase[] VALUES = values();
+
+        final boolean everyTick;
+        final TickProfiler.Section section;
+
+        Phase(boolean everyTick, TickProfiler.Section section) {
+            this.everyTick = everyTick;
+            this.section = section;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final Consumer<MinecraftServer>[] resolvers =
+            new Consumer[Phase.VALUES.length];
+
+    // Bit per phase ordinal, set by request() and cleared by drain()
+    private static int requested = 0;
+
+    private EndTickPhases() {}
+
+    /**
+     * Sets the resolver of a phase. Called once during event registration.
+     */
+    public static void register(Phase phase, Consumer<MinecraftServer> resolver) {
+        resolvers[phase.ordinal()] = resolver;
+    }
+
+    /**
+     * Marks an on-request phase as having work this tick.
+     */
+    public static void request(Phase phase) {
+        requested |= 1 << phase.ordinal();
+    }
+
+    /**
+     * Runs every due phase in order. Phases requested while draining (by a later phase's work)
+     * still run if they come later in the order; earlier ones wait for the next tick.
+     */
+    static void drain(MinecraftServer server) {
+        for (Phase phase : Phase.VALUES) {
+            int bit = 1 << phase.ordinal();
+            if (!phase.everyTick && (requested & bit) == 0)
+                continue;
+            requested &= ~bit;
+
+            Consumer<MinecraftServer> resolver = resolvers[phase.ordinal()];
+            if (resolver != null) {
+                long start = TickProfiler.start();
+                resolver.accept(server);
+                TickProfiler.stop(phase.section, start);
+            }
+        }
+    }
+
+    /**
+     * Drops pending requests. Called when the server stops.
+     */
+    static void clear() {
+        requested = 0;
+    }
+}
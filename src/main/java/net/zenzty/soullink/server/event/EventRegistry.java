@@ -1,10 +1,15 @@
 package net.zenzty.soullink.server.event;
 
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import net.fabricmc.fabric.api.entity.event.v1.ServerEntityWorldChangeEvents;
 import net.fabricmc.fabric.api.entity.event.v1.ServerLivingEntityEvents;
+import net.fabricmc.fabric.api.entity.event.v1.ServerPlayerEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
@@ -29,8 +34,15 @@ import net.minecraft.world.GameMode;
 import net.minecraft.world.WorldProperties;
 import net.zenzty.soullink.SoulLink;
 import net.zenzty.soullink.common.SoulLinkConstants;
+import net.zenzty.soullink.server.health.CombatLogAggregator;
+import net.zenzty.soullink.server.health.HungerSimulation;
+import net.zenzty.soullink.server.health.PeriodicDamageClassifier;
 import net.zenzty.soullink.server.health.SharedJumpHandler;
+import net.zenzty.soullink.server.health.SharedPotionHandler;
 import net.zenzty.soullink.server.health.SharedStatsHandler;
+import net.zenzty.soullink.server.health.SoulLinkGroup;
+import net.zenzty.soullink.server.health.SoulLinkParticipants;
+import net.zenzty.soullink.server.health.StatJournal;
 import net.zenzty.soullink.server.manhunt.CompassTrackingHandler;
 import net.zenzty.soullink.server.manhunt.ManhuntManager;
 import net.zenzty.soullink.server.run.RunManager;
@@ -43,19 +55,18 @@ import net.zenzty.soullink.server.settings.SettingsPersistence;
  */
 public class EventRegistry {
 
-    private static class DelayedTask {
-        int remainingTicks;
-        final Runnable task;
+    // Delayed tasks, expired one wheel slot per tick
+    private static final TimingWheel delayedTasks = new TimingWheel();
+    // Tasks cancelled when the current run ends
+    private static final TaskScope runTasks = new TaskScope();
+    // Tasks cancelled when the player disconnects
+    private static final Map<UUID, TaskScope> playerTasks = new HashMap<>();
+    // Tasks submitted from other threads, moved onto the wheel at the start of each tick pass
+    private static final Queue<SubmittedTask> submittedTasks = new ConcurrentLinkedQueue<>();
 
-        DelayedTask(int remainingTicks, Runnable task) {
-            this.remainingTicks = remainingTicks;
-            this.task = task;
-        }
+    private record SubmittedTask(int delayTicks, Runnable task) {
     }
 
-    // Track delayed tasks (list of tasks with remaining ticks)
-    private static final List<DelayedTask> delayedTasks = new ArrayList<>();
-
     /**
      * Registers all events for the SoulLink mod.
      */
@@ -76,8 +87,12 @@ public class EventRegistry {
             SoulLink.LOGGER.info("Server started - initializing RunManager");
             RunManager.init(server);
             SettingsPersistence.load(server);
+            PeriodicDamageClassifier.rebuild(server);
+            StatJournal.bind(server);
+            TickProfiler.bind(server);
             ManhuntManager.getInstance().resetRoles();
             ManhuntManager.getInstance().cleanupTeams(server);
+            RunManager.getInstance().refillWarmWorlds();
         });
 
         // Server stopping - save settings, then cleanup worlds
@@ -85,7 +100,9 @@ public class EventRegistry {
             SoulLink.LOGGER
                     .info("Server stopping - saving settings and cleaning up temporary worlds");
             SettingsPersistence.save(server);
-            delayedTasks.clear(); // Clear pending tasks
+            clearDelayedTasks(); // Clear pending tasks
+            TickBudgetExecutor.clear();
+            EndTickPhases.clear();
             RunManager.cleanup();
         });
     }
@@ -112,18 +129,15 @@ public class EventRegistry {
                 return;
             }
 
+            SoulLinkParticipants.refresh(player);
+
             // IMMEDIATELY teleport if IDLE to prevent suffocation damage
             if (runManager.getGameState() == RunState.IDLE) {
                 runManager.teleportToVanillaSpawn(player);
             }
 
-            // Delay other handling to ensure player is fully loaded
-            scheduleDelayed(10, () -> {
-                // Return early if player has disconnected in the meantime
-                if (player.isRemoved()) {
-                    return;
-                }
-
+            // Delay other handling to ensure player is fully loaded; dropped if they disconnect
+            scheduleDelayed(playerScope(player.getUuid()), 10, () -> {
                 RunState state = runManager.getGameState();
 
                 switch (state) {
@@ -154,9 +168,11 @@ public class EventRegistry {
             });
         });
 
-        // Player disconnects - log for debugging
+        // Player disconnects - drop from Soul Link participants and log for debugging
         ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> {
             ServerPlayerEntity player = handler.getPlayer();
+            SoulLinkParticipants.remove(player);
+            cancelPlayerTasks(player.getUuid());
 
             RunManager runManager;
             try {
@@ -258,8 +274,18 @@ public class EventRegistry {
      * Registers tick events for timer updates and periodic sync.
      */
     private static void registerTickEvents() {
+        // Deferred handlers resolve in this order at the end of every tick
+        EndTickPhases.register(EndTickPhases.Phase.JUMPS, SharedJumpHandler::processJumpsAtTickEnd);
+        EndTickPhases.register(EndTickPhases.Phase.POTIONS, SharedPotionHandler::endTick);
+        EndTickPhases.register(EndTickPhases.Phase.HUNGER, HungerSimulation::tick);
+        EndTickPhases.register(EndTickPhases.Phase.STATS_FLUSH, SharedStatsHandler::flushTick);
+        EndTickPhases.register(EndTickPhases.Phase.STATS_SYNC, SharedStatsHandler::tickSync);
+        EndTickPhases.register(EndTickPhases.Phase.COMBAT_LOG, CombatLogAggregator::tick);
+
         ServerTickEvents.END_SERVER_TICK.register(server -> {
+            long start = TickProfiler.start();
             processDelayedTasks(server);
+            TickProfiler.stop(TickProfiler.Section.DELAYED_TASKS, start);
 
             RunManager runManager;
             try {
@@ -269,14 +295,22 @@ public class EventRegistry {
             }
 
             if (runManager != null) {
+                start = TickProfiler.start();
                 runManager.tick();
+                TickProfiler.stop(TickProfiler.Section.RUN_TICK, start);
                 if (runManager.isRunActive() && Settings.getInstance().isManhuntMode()) {
+                    start = TickProfiler.start();
                     CompassTrackingHandler.tick(server);
+                    TickProfiler.stop(TickProfiler.Section.COMPASS, start);
                 }
             }
 
-            SharedJumpHandler.processJumpsAtTickEnd(server);
-            SharedStatsHandler.tickSync(server);
+            start = TickProfiler.start();
+            TickBudgetExecutor.run();
+            TickProfiler.stop(TickProfiler.Section.BUDGETED_JOBS, start);
+
+            EndTickPhases.drain(server);
+            TickProfiler.endTick(server.getTicks());
         });
     }
 
@@ -284,6 +318,15 @@ public class EventRegistry {
      * Registers entity events for death handling and dragon victory.
      */
     private static void registerEntityEvents() {
+        // Keep Soul Link participants current across dimension changes and respawns
+        ServerEntityWorldChangeEvents.AFTER_PLAYER_CHANGE_WORLD
+                .register((player, origin, destination) -> SoulLinkParticipants.refresh(player));
+
+        ServerPlayerEvents.AFTER_RESPAWN.register((oldPlayer, newPlayer, alive) -> {
+            SoulLinkParticipants.remove(oldPlayer);
+            SoulLinkParticipants.refresh(newPlayer);
+        });
+
         // Handle entity death - check for dragon
         ServerLivingEntityEvents.AFTER_DEATH.register((entity, damageSource) -> {
             if (entity instanceof EnderDragonEntity dragon) {
@@ -397,23 +440,27 @@ public class EventRegistry {
                         return;
                     }
 
+                    long start = TickProfiler.start();
                     SharedStatsHandler.onPlayerHealthChanged(player, player.getHealth(), source);
+                    TickProfiler.stop(TickProfiler.Section.DAMAGE_HOOK, start);
                 });
     }
 
     /**
-     * Handles player death logic (broadcast message, reset health, trigger game over).
+     * Handles player death logic (broadcast message, reset health, eliminate the player's group or
+     * trigger game over).
      */
     private static void handlePlayerDeath(ServerPlayerEntity player, DamageSource source,
             RunManager runManager) {
+        SoulLinkGroup group = SoulLinkParticipants.getGroup(player);
         Text deathMessage = source.getDeathMessage(player);
         Text formattedDeathMessage = Text.empty().append(RunManager.getPrefix())
                 .append(Text.literal("☠ ").formatted(Formatting.DARK_RED))
                 .append(deathMessage.copy().formatted(Formatting.RED));
         runManager.getServer().getPlayerManager().broadcast(formattedDeathMessage, false);
 
-        player.setHealth(player.getMaxHealth());
-        runManager.triggerGameOver();
+        SharedStatsHandler.writeHealth(player, player.getMaxHealth());
+        runManager.eliminateGroup(group);
     }
 
     /**
@@ -462,10 +509,12 @@ public class EventRegistry {
         player.getInventory().clear();
         player.getEnderChestInventory().clear();
 
+        // Countdown and respawn are dropped if the player disconnects
+        TaskScope scope = playerScope(player.getUuid());
         for (int i = 5; i >= 1; i--) {
             final int c = i;
-            scheduleDelayed((5 - i) * 20, () -> {
-                if (player.isRemoved() || !runManager.isRunActive())
+            scheduleDelayed(scope, (5 - i) * 20, () -> {
+                if (!runManager.isRunActive())
                     return;
                 player.networkHandler.sendPacket(new TitleS2CPacket(Text.literal(String.valueOf(c))
                         .formatted(Formatting.RED, Formatting.BOLD)));
@@ -474,8 +523,8 @@ public class EventRegistry {
             });
         }
 
-        scheduleDelayed(5 * 20, () -> {
-            if (player.isRemoved() || !runManager.isRunActive())
+        scheduleDelayed(scope, 5 * 20, () -> {
+            if (!runManager.isRunActive())
                 return;
 
             player.networkHandler.sendPacket(new TitleS2CPacket(
@@ -506,7 +555,7 @@ public class EventRegistry {
                         targetPos.getZ() + 0.5, Set.of(), 0.0f, 0.0f, true);
             }
 
-            player.setHealth(player.getMaxHealth());
+            SharedStatsHandler.writeHealth(player, player.getMaxHealth());
             player.getHungerManager().setFoodLevel(20);
             player.getHungerManager().setSaturationLevel(5.0f);
 
@@ -518,9 +567,62 @@ public class EventRegistry {
 
     /**
      * Schedule a task to run after a delay in ticks.
+     *
+     * @return Handle that can cancel the task before it runs
+     */
+    public static TaskHandle scheduleDelayed(int delayTicks, Runnable task) {
+        return delayedTasks.schedule(delayTicks, task, null);
+    }
+
+    /**
+     * Schedule a task to run after a delay in ticks, cancelled together with the given scope (see
+     * {@link #runScope()} and {@link #playerScope(UUID)}).
+     *
+     * @return Handle that can cancel the task before it runs
+     */
+    public static TaskHandle scheduleDelayed(TaskScope scope, int delayTicks, Runnable task) {
+        return delayedTasks.schedule(delayTicks, task, scope);
+    }
+
+    /**
+     * Schedule a task to run on the server thread after a delay in ticks. Unlike the other
+     * scheduling methods this may be called from any thread, so background work (file I/O, world
+     * deletion, chunk futures) can hand a continuation back without going through
+     * server.execute first. The delay counts from the next tick pass.
      */
-    public static void scheduleDelayed(int delayTicks, Runnable task) {
-        delayedTasks.add(new DelayedTask(delayTicks, task));
+    public static void submitDelayed(int delayTicks, Runnable task) {
+        submittedTasks.add(new SubmittedTask(delayTicks, task));
+    }
+
+    /**
+     * Returns the scope of tasks that belong to the current run.
+     */
+    public static TaskScope runScope() {
+        return runTasks;
+    }
+
+    /**
+     * Returns the scope of tasks that belong to a player and end when they disconnect.
+     */
+    public static TaskScope playerScope(UUID playerId) {
+        return playerTasks.computeIfAbsent(playerId, id -> new TaskScope());
+    }
+
+    /**
+     * Cancels the tasks of the current run. Called when the run ends.
+     */
+    public static void cancelRunTasks() {
+        runTasks.cancelAll();
+    }
+
+    /**
+     * Cancels the tasks of a player. Called when they disconnect.
+     */
+    public static void cancelPlayerTasks(UUID playerId) {
+        TaskScope scope = playerTasks.remove(playerId);
+        if (scope != null) {
+            scope.cancelAll();
+        }
     }
 
     /**
@@ -529,24 +631,18 @@ public class EventRegistry {
      */
     public static void clearDelayedTasks() {
         delayedTasks.clear();
+        playerTasks.clear();
+        submittedTasks.clear();
     }
 
     /**
      * Process any delayed tasks that are ready to run.
      */
     private static void processDelayedTasks(MinecraftServer server) {
-        Iterator<DelayedTask> iterator = delayedTasks.iterator();
-        while (iterator.hasNext()) {
-            DelayedTask task = iterator.next();
-            task.remainingTicks--;
-            if (task.remainingTicks <= 0) {
-                try {
-                    task.task.run();
-                } catch (Exception e) {
-                    SoulLink.LOGGER.error("Error running delayed task", e);
-                }
-                iterator.remove();
-            }
+        SubmittedTask submitted;
+        while ((submitted = submittedTasks.poll()) != null) {
+            delayedTasks.schedule(submitted.delayTicks(), submitted.task(), null);
         }
+        delayedTasks.advance();
     }
 }
@@ -0,0 +1,69 @@
+package net.zenzty.soullink.server.event;
+
+/**
+ * Handle to a task scheduled with EventRegistry.scheduleDelayed. The handle is also the task's
+ * intrusive node in the timing wheel slot and in its {@link TaskScope}, so cancelling unlinks it
+ * from both in O(1) without searching.
+ *
+ * Used on the server thread only.
+ */
+public final class TaskHandle {
+
+    final TimingWheel wheel;
+    final Runnable task;
+    int rounds;
+    // Wheel slot while pending, -1 once run or cancelled
+    int slot = -1;
+    TaskHandle prev;
+    TaskHandle next;
+
+    TaskScope scope;
+    TaskHandle scopePrev;
+    TaskHandle scopeNext;
+
+    TaskHandle(TimingWheel wheel, Runnable task) {
+        this.wheel = wheel;
+        this.task = task;
+    }
+
+    /**
+     * Cancels the task if it has not run yet. Does nothing otherwise.
+     */
+    public void cancel() {
+        if (slot >= 0) {
+            wheel.cancel(this);
+        }
+    }
+
+    /**
+     * Returns whether the task is still waiting to run.
+     */
+    public boolean isPending() {
+        return slot >= 0;
+    }
+
+    void linkScope(TaskScope taskScope) {
+        scope = taskScope;
+        scopeNext = taskScope.head;
+        if (scopeNext != null) {
+            scopeNext.scopePrev = this;
+        }
+        taskScope.head = this;
+    }
+
+    void unlinkScope() {
+        if (scope == null)
+            return;
+        if (scopePrev != null) {
+            scopePrev.scopeNext = scopeNext;
+        } else {
+            scope.head = scopeNext;
+        }
+        if (scopeNext != null) {
+            scopeNext.scopePrev = scopePrev;
+        }
+        scope = null;
+        scopePrev = null;
+        scopeNext = null;
+    }
+}
@@ -0,0 +1,29 @@
+package net.zenzty.soullink.server.event;
+
+/**
+ * Group of delayed tasks that are cancelled together, such as everything belonging to the current
+ * run or to one player. Pending tasks are kept in an intrusive list threaded through their
+ * {@link TaskHandle}s, so cancelling a scope costs O(scope size) and never scans the wheel.
+ *
+ * Used on the server thread only.
+ */
+public final class TaskScope {
+
+    TaskHandle head;
+
+    /**
+     * Cancels every pending task in this scope.
+     */
+    public void cancelAll() {
+        while (head != null) {
+            head.cancel();
+        }
+    }
+
+    /**
+     * Returns whether no task of this scope is pending.
+     */
+    public boolean isEmpty() {
+        return head == null;
+    }
+}
@@ -0,0 +1,81 @@
+package net.zenzty.soullink.server.event;
+
+import java.util.ArrayDeque;
+import net.zenzty.soullink.SoulLink;
+
+/**
+ * Cooperative executor for heavy run work (spawn search, mass teleports, advancement resets, End
+ * prewarming). Jobs are split into small steps, and each tick steps are taken from the oldest job
+ * until the tick's time budget is used up, so a job spreads over as many ticks as it needs instead
+ * of causing one long tick. At least one step runs per tick so jobs always make progress.
+ *
+ * Used on the server thread only.
+ */
+public final class TickBudgetExecutor {
+
+    // Time per tick the jobs may use, a fifth of a 50 ms tick
+    private static final long BUDGET_NANOS = 10_000_000L;
+
+    /**
+     * A unit of work that yields back to the executor after every step.
+     */
+    @FunctionalInterface
+    public interface Job {
+        /**
+         * Performs one small step of the job.
+         *
+         * @return true when the job is finished (or no longer needed)
+         */
+        boolean step();
+    }
+
+    private static final ArrayDeque<Job> jobs = new ArrayDeque<>();
+
+    private TickBudgetExecutor() {}
+
+    /**
+     * Queues a job. Jobs run one after another in submission order, starting this tick if called
+     * before the end of tick.
+     */
+    public static void submit(Job job) {
+        jobs.add(job);
+    }
+
+    /**
+     * Drops all queued jobs. Called when a new run starts and when the server stops.
+     */
+    public static void clear() {
+        jobs.clear();
+    }
+
+    /**
+     * Returns whether any job is queued.
+     */
+    public static boolean isBusy() {
+        return !jobs.isEmpty();
+    }
+
+    /**
+     * Steps the queued jobs until the budget is used up. Called once per server tick.
+     */
+    static void run() {
+        if (jobs.isEmpty())
+            return;
+
+        long deadline = System.nanoTime() + BUDGET_NANOS;
+        do {
+            Job job = jobs.peek();
+            boolean done;
+            try {
+                done = job.step();
+            } catch (Exception e) {
+                SoulLink.LOGGER.error("Error running budgeted job", e);
+                done = true;
+            }
+            // A step may have cleared the queue (e.g. by starting a new run)
+            if (done && jobs.peek() == job) {
+                jobs.poll();
+            }
+        } while (!jobs.isEmpty() && System.nanoTime() < deadline);
+    }
+}
@@ -0,0 +1,208 @@
+package net.zenzty.soullink.server.event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import net.minecraft.server.MinecraftServer;
+import net.zenzty.soullink.SoulLink;
+
+/**
+ * Measures how much of each server tick the mod costs. Every section adds the nanoseconds it spent
+ * during the tick; at the end of the tick each section's total goes into a log2 histogram (bucket
+ * b holds ticks that cost 2^b to 2^(b+1) ns), so recording is two nanoTime calls and an array
+ * increment. Sections record exclusive time: a hook that fires inside a measured phase (e.g. the
+ * heal hook during the stats flush) counts toward the hook only, so nothing is counted twice.
+ * Percentiles read from the histograms are upper bounds of their bucket. Shown with
+ * {@code /soullink perf}; a warning with the breakdown is logged when a tick's total goes over
+ * {@link #WARN_NANOS}.
+ *
+ * Samples are only recorded on the server thread. Hooks that fire on other threads (e.g. world
+ * threads with parallel world ticking) are not measured, so the unsynchronized accumulators and
+ * the nesting stack are never shared.
+ */
+public final class TickProfiler {
+
+    /**
+     * Measured parts of the tick. Hook sections sum every call made during the tick.
+     */
+    public enum Section {
+        DELAYED_TASKS,
+        RUN_TICK,
+        COMPASS,
+        BUDGETED_JOBS,
+        JUMPS,
+        POTIONS,
+        HUNGER,
+        STATS_FLUSH,
+        STATS_SYNC,
+        COMBAT_LOG,
+        DAMAGE_HOOK,
+        HEAL_HOOK,
+        HUNGER_HOOK,
+        ABSORPTION_HOOK,
+        EFFECT_HOOK,
+        JUMP_HOOK,
+        // Sum of all sections
+        TOTAL;
+
+        private static final Section[] VALUES = values();
+    }
+
+    // Warn when the mod takes more than this in one tick (30% of a 50 ms tick)
+    private static final long WARN_NANOS = 15_000_000L;
+    private static final int WARN_INTERVAL_TICKS = 100;
+    private static final int BUCKETS = 64;
+
+    private static final int SECTIONS = Section.VALUES.length;
+    private static final long[] tickNanos = new long[SECTIONS];
+    private static final long[][] histograms = new long[SECTIONS][BUCKETS];
+    private static final long[] counts = new long[SECTIONS];
+    private static final long[] maxNanos = new long[SECTIONS];
+
+    // Time spent in nested sections, per open section (innermost at depth - 1)
+    private static long[] nestedNanos = new long[8];
+    private static int depth = 0;
+
+    private static int lastWarnTick = Integer.MIN_VALUE / 2;
+
+    // Thread whose samples are recorded, null until bound
+    private static volatile Thread serverThread = null;
+
+    private TickProfiler() {}
+
+    /**
+     * Binds the server whose thread is measured. Called on SERVER_STARTED.
+     */
+    static void bind(MinecraftServer server) {
+        serverThread = server.getThread();
+    }
+
+    /**
+     * Opens a measurement and returns its start timestamp. Every start() must be followed by a
+     * stop() on the same thread, innermost first. Off the server thread nothing is measured.
+     */
+    public static long start() {
+        if (Thread.currentThread() != serverThread)
+            return 0L;
+        if (depth == nestedNanos.length) {
+            nestedNanos = Arrays.copyOf(nestedNanos, depth * 2);
+        }
+        nestedNanos[depth++] = 0;
+        return System.nanoTime();
+    }
+
+    /**
+     * Adds the time since {@code start}, minus the time of sections nested inside it, to a
+     * section's total for this tick.
+     */
+    public static void stop(Section section, long start) {
+        if (Thread.currentThread() != serverThread)
+            return;
+        long elapsed = System.nanoTime() - start;
+        if (depth == 0) {
+            // Unbalanced stop; count the full time
+            tickNanos[section.ordinal()] += elapsed;
+            return;
+        }
+        depth--;
+        tickNanos[section.ordinal()] += elapsed - nestedNanos[depth];
+        if (depth > 0) {
+            nestedNanos[depth - 1] += elapsed;
+        }
+    }
+
+    /**
+     * Moves this tick's totals into the histograms and warns if the tick was expensive. Called
+     * once at the end of every server tick.
+     */
+    static void endTick(int tick) {
+        // No section is open between ticks; drop any left open by an exception
+        depth = 0;
+
+        long total = 0;
+        for (int i = 0; i < SECTIONS - 1; i++) {
+            total += tickNanos[i];
+        }
+        tickNanos[Section.TOTAL.ordinal()] = total;
+
+        if (total > WARN_NANOS && tick - lastWarnTick >= WARN_INTERVAL_TICKS) {
+            lastWarnTick = tick;
+            SoulLink.LOGGER.warn("SoulLink took {} ms of tick {}: {}", formatMillis(total), tick,
+                    breakdown());
+        }
+
+        for (int i = 0; i < SECTIONS; i++) {
+            long nanos = tickNanos[i];
+            // Hooks that did not fire this tick are not counted
+            if (nanos <= 0)
+                continue;
+            histograms[i][63 - Long.numberOfLeadingZeros(nanos)]++;
+            counts[i]++;
+            if (nanos > maxNanos[i]) {
+                maxNanos[i] = nanos;
+            }
+            tickNanos[i] = 0;
+        }
+    }
+
+    /**
+     * Drops all recorded samples.
+     */
+    public static void reset() {
+        depth = 0;
+        for (int i = 0; i < SECTIONS; i++) {
+            Arrays.fill(histograms[i], 0);
+            counts[i] = 0;
+            maxNanos[i] = 0;
+            tickNanos[i] = 0;
+        }
+    }
+
+    /**
+     * Returns one line per recorded section with p50, p99 and max time per tick.
+     */
+    public static List<String> report() {
+        List<String> lines = new ArrayList<>();
+        for (Section section : Section.VALUES) {
+            int i = section.ordinal();
+            if (counts[i] == 0)
+                continue;
+            lines.add(section.name() + ": p50 <" + formatMillis(percentile(i, 0.50)) + " p99 <"
+                    + formatMillis(percentile(i, 0.99)) + " max " + formatMillis(maxNanos[i])
+                    + " ms (" + counts[i] + " ticks)");
+        }
+        return lines;
+    }
+
+    private static long percentile(int section, double fraction) {
+        long target = (long) Math.ceil(counts[section] * fraction);
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += histograms[section][b];
+            if (seen >= target) {
+                // Upper bound of the bucket, but never above the real maximum
+                long upper = b >= 62 ? Long.MAX_VALUE : 1L << (b + 1);
+                return Math.min(upper, maxNanos[section]);
+            }
+        }
+        return maxNanos[section];
+    }
+
+    private static String breakdown() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < SECTIONS - 1; i++) {
+            if (tickNanos[i] <= 0)
+                continue;
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(Section.VALUES[i].name()).append('=').append(formatMillis(tickNanos[i]));
+        }
+        return sb.toString();
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format(Locale.US, "%.3f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,148 @@
+package net.zenzty.soullink.server.event;
+
+import java.util.Arrays;
+import net.zenzty.soullink.SoulLink;
+
+/**
+ * Hashed timing wheel for tick-delayed tasks. Tasks are linked into one of {@value #SIZE} slots by
+ * their due tick; each tick only the current slot is visited, and tasks more than one revolution
+ * away count down a round per visit. Tasks due in the same tick run in the order they were
+ * scheduled. Scheduling, expiry and cancellation are O(1) regardless of how many tasks are pending.
+ *
+ * Used on the server thread only.
+ */
+final class TimingWheel {
+
+    private static final int SIZE = 256;
+    private static final int MASK = SIZE - 1;
+
+    // Head and tail of each slot's list
+    private final TaskHandle[] slots = new TaskHandle[SIZE];
+    private final TaskHandle[] tails = new TaskHandle[SIZE];
+    // Tasks of the slot being expired that have not run yet
+    private TaskHandle expiring = null;
+    private long tick = 0;
+    private int size = 0;
+
+    /**
+     * Schedules a task to run after the given number of ticks (at least one), optionally as part of
+     * a scope.
+     */
+    TaskHandle schedule(int delayTicks, Runnable task, TaskScope scope) {
+        int delay = Math.max(1, delayTicks);
+        TaskHandle handle = new TaskHandle(this, task);
+        handle.rounds = (delay - 1) / SIZE;
+        link((int) ((tick + delay) & MASK), handle);
+        if (scope != null) {
+            handle.linkScope(scope);
+        }
+        size++;
+        return handle;
+    }
+
+    /**
+     * Advances one tick and runs every task due in it. Running tasks may schedule new tasks and
+     * cancel pending ones, including ones due in this same tick.
+     */
+    void advance() {
+        tick++;
+        int slot = (int) (tick & MASK);
+        if (slots[slot] == null)
+            return;
+
+        // Detach the slot first so tasks scheduled a full revolution ahead are not run now
+        expiring = slots[slot];
+        slots[slot] = null;
+        tails[slot] = null;
+        TaskHandle handle;
+        while ((handle = expiring) != null) {
+            expiring = handle.next;
+            if (expiring != null) {
+                expiring.prev = null;
+            }
+            handle.next = null;
+
+            if (handle.rounds > 0) {
+                handle.rounds--;
+                link(slot, handle);
+                continue;
+            }
+
+            release(handle);
+            try {
+                handle.task.run();
+            } catch (Exception e) {
+                SoulLink.LOGGER.error("Error running delayed task", e);
+            }
+        }
+    }
+
+    /**
+     * Removes a pending task. Called through {@link TaskHandle#cancel()}.
+     */
+    void cancel(TaskHandle handle) {
+        int slot = handle.slot;
+        if (handle.prev != null) {
+            handle.prev.next = handle.next;
+        } else if (slots[slot] == handle) {
+            slots[slot] = handle.next;
+        } else if (expiring == handle) {
+            expiring = handle.next;
+        }
+        if (handle.next != null) {
+            handle.next.prev = handle.prev;
+        } else if (tails[slot] == handle) {
+            tails[slot] = handle.prev;
+        }
+        handle.prev = null;
+        handle.next = null;
+        release(handle);
+    }
+
+    /**
+     * Drops all pending tasks and empties their scopes.
+     */
+    void clear() {
+        for (TaskHandle head : slots) {
+            releaseChain(head);
+        }
+        releaseChain(expiring);
+        expiring = null;
+        Arrays.fill(slots, null);
+        Arrays.fill(tails, null);
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void link(int slot, TaskHandle handle) {
+        handle.slot = slot;
+        TaskHandle tail = tails[slot];
+        handle.prev = tail;
+        if (tail != null) {
+            tail.next = handle;
+        } else {
+            slots[slot] = handle;
+        }
+        tails[slot] = handle;
+    }
+
+    private void release(TaskHandle handle) {
+        handle.slot = -1;
+        handle.unlinkScope();
+        size--;
+    }
+
+    private static void releaseChain(TaskHandle handle) {
+        while (handle != null) {
+            TaskHandle next = handle.next;
+            handle.slot = -1;
+            handle.unlinkScope();
+            handle.prev = null;
+            handle.next = null;
+            handle = next;
+        }
+    }
+}
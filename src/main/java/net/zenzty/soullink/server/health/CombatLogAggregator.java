@@ -0,0 +1,153 @@
+package net.zenzty.soullink.server.health;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.damage.DamageSource;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.text.MutableText;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+import net.zenzty.soullink.server.run.RunManager;
+import net.zenzty.soullink.server.settings.Settings;
+
+/**
+ * Collects combat log hits over a short window and broadcasts them as one chat message, merging
+ * repeated hits per player and source (e.g. "Steve took 4.5 ❤ from lava over 2s"). Styled text
+ * fragments are built once and reused. Hits may be recorded from several world threads, so access
+ * is synchronized.
+ */
+public final class CombatLogAggregator {
+
+    // Reused styled fragments
+    private static final Text PREFIX = RunManager.getPrefix();
+    private static final Text TOOK = Text.literal(" took ").formatted(Formatting.GRAY);
+    private static final Text FROM = Text.literal(" from ").formatted(Formatting.GRAY);
+    private static final Text HEART = Text.literal(" ❤").formatted(Formatting.RED);
+    private static final Text NEWLINE = Text.literal("\n");
+
+    /**
+     * Merged damage for one player from one source within the current window.
+     */
+    private static class Entry {
+        final ServerPlayerEntity player;
+        final String source;
+        float damage;
+        int hits;
+        // Server ticks of the first and last merged hit
+        int firstTick;
+        int lastTick;
+
+        Entry(ServerPlayerEntity player, String source) {
+            this.player = player;
+            this.source = source;
+        }
+    }
+
+    private static final List<Entry> entries = new ArrayList<>();
+
+    // Server tick the current window opened at, -1 if no window is open
+    private static int windowStart = -1;
+
+    private CombatLogAggregator() {}
+
+    /**
+     * Records a hit for the combat log. The message is sent when the window closes.
+     */
+    public static synchronized void record(ServerPlayerEntity player, DamageSource source,
+            float amount, MinecraftServer server) {
+        String sourceName = describeSource(source);
+        int now = server.getTicks();
+
+        Entry entry = null;
+        for (int i = 0; i < entries.size(); i++) {
+            Entry e = entries.get(i);
+            if (e.player == player && e.source.equals(sourceName)) {
+                entry = e;
+                break;
+            }
+        }
+        if (entry == null) {
+            entry = new Entry(player, sourceName);
+            entry.firstTick = now;
+            entries.add(entry);
+        }
+        entry.damage += amount;
+        entry.hits++;
+        entry.lastTick = now;
+
+        if (windowStart < 0) {
+            windowStart = now;
+        }
+    }
+
+    /**
+     * Broadcasts the collected hits once the window has elapsed. Called every server tick.
+     */
+    public static synchronized void tick(MinecraftServer server) {
+        if (windowStart < 0)
+            return;
+
+        int window = Settings.getInstance().getCombatLogWindowTicks();
+        if (server.getTicks() - windowStart < window)
+            return;
+
+        MutableText message = Text.empty();
+        for (int i = 0; i < entries.size(); i++) {
+            if (i > 0) {
+                message.append(NEWLINE);
+            }
+            appendLine(message, entries.get(i));
+        }
+        server.getPlayerManager().broadcast(message, false);
+
+        entries.clear();
+        windowStart = -1;
+    }
+
+    private static void appendLine(MutableText message, Entry entry) {
+        message.append(PREFIX)
+                .append(Text.literal(entry.player.getName().getString())
+                        .formatted(Formatting.WHITE))
+                .append(TOOK)
+                .append(Text.literal(formatHearts(entry.damage)).formatted(Formatting.RED))
+                .append(HEART).append(FROM)
+                .append(Text.literal(entry.source).formatted(Formatting.WHITE));
+        // Time between the first and last merged hit, in whole seconds
+        int seconds = Math.round((entry.lastTick - entry.firstTick) / 20.0f);
+        if (entry.hits > 1 && seconds > 0) {
+            message.append(Text.literal(" over " + seconds + "s").formatted(Formatting.GRAY));
+        }
+    }
+
+    /**
+     * Converts health points to hearts rounded to the nearest half heart (minimum 0.5), e.g. 9 HP
+     * -> "4.5".
+     */
+    private static String formatHearts(float damage) {
+        int halfHearts = Math.max(1, Math.round(damage));
+        return (halfHearts / 2) + ((halfHearts & 1) == 1 ? ".5" : ".0");
+    }
+
+    /**
+     * Describes the damage source: the attacker's name if there is one, otherwise the damage type
+     * (e.g. "lava", "sweet berry bush").
+     */
+    private static String describeSource(DamageSource source) {
+        Entity attacker = source.getAttacker();
+        if (attacker != null) {
+            return attacker.getName().getString();
+        }
+        return source.getTypeRegistryEntry().getKey()
+                .map(key -> key.getValue().getPath().replace('_', ' ')).orElse(source.getName());
+    }
+
+    /**
+     * Drops pending hits without sending them. Called when a run starts.
+     */
+    public static synchronized void reset() {
+        entries.clear();
+        windowStart = -1;
+    }
+}
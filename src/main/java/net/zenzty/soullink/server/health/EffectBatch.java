@@ -0,0 +1,96 @@
+package net.zenzty.soullink.server.health;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.entity.effect.StatusEffect;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.network.listener.ClientPlayPacketListener;
+import net.minecraft.network.packet.Packet;
+import net.minecraft.network.packet.s2c.play.BundleS2CPacket;
+import net.minecraft.network.packet.s2c.play.EntityStatusEffectS2CPacket;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.zenzty.soullink.mixin.player.LivingEntityInvoker;
+
+/**
+ * Bulk status effect application for shared potions. Effects are written straight into the
+ * recipient's effect map (mirroring LivingEntity.addStatusEffect without re-entering the shared
+ * potion hooks), and the effect packets vanilla sends for them are collected and sent as one
+ * bundle per player.
+ *
+ * Used on the server thread only, one recipient at a time.
+ */
+public final class EffectBatch {
+
+    private static final List<Packet<? super ClientPlayPacketListener>> packets =
+            new ArrayList<>();
+
+    // Player whose effect packets are currently being collected, null if none
+    private static ServerPlayerEntity target = null;
+
+    private EffectBatch() {}
+
+    /**
+     * Starts collecting effect packets for a player and makes them the target of apply().
+     */
+    static void begin(ServerPlayerEntity player) {
+        target = player;
+    }
+
+    /**
+     * Applies a copy of an effect to the current batch target, including the apply sound for new
+     * effects and the effect's onApplied behavior.
+     */
+    static void apply(StatusEffectInstance effect) {
+        ServerPlayerEntity player = target;
+        if (!player.canHaveStatusEffect(effect))
+            return;
+
+        RegistryEntry<StatusEffect> type = effect.getEffectType();
+        Map<RegistryEntry<StatusEffect>, StatusEffectInstance> active =
+                player.getActiveStatusEffects();
+        LivingEntityInvoker invoker = (LivingEntityInvoker) player;
+
+        StatusEffectInstance existing = active.get(type);
+        if (existing == null) {
+            StatusEffectInstance copy = new StatusEffectInstance(effect);
+            active.put(type, copy);
+            invoker.invokeOnStatusEffectApplied(copy, null);
+            copy.playApplySound(player);
+        } else if (existing.upgrade(effect)) {
+            invoker.invokeOnStatusEffectUpgraded(existing, true, null);
+        }
+        effect.onApplied(player);
+    }
+
+    /**
+     * Takes an effect packet vanilla is about to send if it belongs to the current batch. Called
+     * from ServerPlayerEntityMixin.
+     *
+     * @return true if the packet was collected and must not be sent now
+     */
+    public static boolean collect(ServerPlayerEntity player, Packet<?> packet) {
+        if (player != target || !(packet instanceof EntityStatusEffectS2CPacket effectPacket))
+            return false;
+        packets.add(effectPacket);
+        return true;
+    }
+
+    /**
+     * Sends the collected packets (bundled if there is more than one) and ends the batch.
+     */
+    static void end() {
+        ServerPlayerEntity player = target;
+        target = null;
+        if (player == null || packets.isEmpty())
+            return;
+
+        if (packets.size() == 1) {
+            player.networkHandler.sendPacket(packets.get(0));
+        } else {
+            player.networkHandler.sendPacket(new BundleS2CPacket(List.copyOf(packets)));
+        }
+        packets.clear();
+    }
+}
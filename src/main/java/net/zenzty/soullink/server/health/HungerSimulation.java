@@ -0,0 +1,163 @@
+package net.zenzty.soullink.server.health;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.Difficulty;
+import net.minecraft.world.rule.GameRules;
+import net.zenzty.soullink.server.run.RunManager;
+import net.zenzty.soullink.server.settings.Settings;
+
+/**
+ * Central hunger simulation for linked players (see Settings.isCentralHungerSimulation()). Each
+ * member's own HungerManager tick is suppressed; the exhaustion they built up is pooled into their
+ * group (divided by member count, so the team drains at the average rate), and exhaustion, hunger
+ * drain, natural regen and starvation are simulated once per group per tick with the same rules as
+ * vanilla's HungerManager.update. Results go through the group ledger like every other change, and
+ * the group state is accessed under the ledger lock.
+ */
+public final class HungerSimulation {
+
+    private static final int UNITS = Vitals.UNITS;
+    private static final int EXHAUSTION_PER_POINT = 4 * UNITS;
+    private static final int MAX_EXHAUSTION = 40 * UNITS;
+    private static final int MAX_FOOD = 20;
+    private static final int MAX_SATURATION = 20 * UNITS;
+
+    private HungerSimulation() {}
+
+    /**
+     * Returns whether this player's own hunger tick should be skipped because their group is
+     * simulated centrally.
+     */
+    public static boolean suppressesHungerTick(ServerPlayerEntity player) {
+        if (!Settings.getInstance().isCentralHungerSimulation() || SharedStatsHandler.isSyncing())
+            return false;
+        return SoulLinkParticipants.getGroup(player) != null;
+    }
+
+    /**
+     * Moves a player's exhaustion into their group's pool. Called from the suppressed hunger tick.
+     */
+    public static void contribute(ServerPlayerEntity player, float exhaustion) {
+        SoulLinkGroup group = SoulLinkParticipants.getGroup(player);
+        if (group == null || exhaustion <= 0)
+            return;
+        synchronized (group.ledger) {
+            addExhaustion(group,
+                    group.exhaustionPool.add(Vitals.toUnits(exhaustion), group.count()));
+        }
+    }
+
+    private static void addExhaustion(SoulLinkGroup group, int units) {
+        group.exhaustion = Math.min(group.exhaustion + units, MAX_EXHAUSTION);
+    }
+
+    /**
+     * Runs one hunger tick for every group. Called at the end of every server tick before
+     * SharedStatsHandler.flushTick().
+     */
+    public static void tick(MinecraftServer server) {
+        if (!Settings.getInstance().isCentralHungerSimulation())
+            return;
+
+        RunManager runManager;
+        try {
+            runManager = RunManager.getInstance();
+        } catch (IllegalStateException e) {
+            return;
+        }
+        if (runManager == null || !runManager.isRunActive())
+            return;
+
+        for (SoulLinkGroup group : SoulLinkParticipants.groups()) {
+            if (group.count() > 0) {
+                synchronized (group.ledger) {
+                    simulate(group);
+                }
+            }
+        }
+    }
+
+    private static void simulate(SoulLinkGroup group) {
+        // Difficulty and game rules are the same in all worlds of a run
+        ServerWorld world = group.members()[0].getEntityWorld();
+        Difficulty difficulty = world.getDifficulty();
+        StatLedger ledger = group.ledger;
+
+        // Simulate on the values the next flush will produce
+        Vitals vitals = group.vitals();
+        int food = MathHelper.clamp(vitals.hunger() + ledger.foodDelta, 0, MAX_FOOD);
+        int saturation = MathHelper.clamp(vitals.saturationUnits() + ledger.saturationDelta, 0,
+                MAX_SATURATION);
+        int health = vitals.healthUnits() + ledger.healthDelta;
+        int maxHealth = Vitals.toUnits(SharedStatsHandler.getMaxHealth());
+
+        if (group.exhaustion > EXHAUSTION_PER_POINT) {
+            group.exhaustion -= EXHAUSTION_PER_POINT;
+            if (saturation > 0) {
+                int drain = Math.min(UNITS, saturation);
+                saturation -= drain;
+                ledger.saturationDelta -= drain;
+                ledger.dirty = true;
+                StatJournal.recordGroup(StatJournal.Kind.SATURATION_DRAIN, group, -drain,
+                        saturation);
+            } else if (difficulty != Difficulty.PEACEFUL && food > 0) {
+                food--;
+                ledger.foodDelta--;
+                ledger.dirty = true;
+                StatJournal.recordGroup(StatJournal.Kind.FOOD_DRAIN, group, -1, food);
+            }
+        }
+
+        boolean naturalRegen = world.getGameRules().getValue(GameRules.NATURAL_HEALTH_REGENERATION);
+        boolean canHeal = health > 0 && health < maxHealth;
+
+        if (naturalRegen && saturation > 0 && canHeal && food >= MAX_FOOD) {
+            // Saturated regen: up to 1 HP every 10 ticks, paid for with saturation
+            if (++group.foodTickTimer >= 10) {
+                int spent = Math.min(saturation, 6 * UNITS);
+                heal(group, spent / 6);
+                addExhaustion(group, spent);
+                group.foodTickTimer = 0;
+            }
+        } else if (naturalRegen && food >= 18 && canHeal) {
+            if (++group.foodTickTimer >= 80) {
+                heal(group, UNITS);
+                addExhaustion(group, 6 * UNITS);
+                group.foodTickTimer = 0;
+            }
+        } else if (food <= 0) {
+            if (++group.foodTickTimer >= 80) {
+                if (health > 10 * UNITS || difficulty == Difficulty.HARD
+                        || health > UNITS && difficulty == Difficulty.NORMAL) {
+                    starve(group);
+                }
+                group.foodTickTimer = 0;
+            }
+        } else {
+            group.foodTickTimer = 0;
+        }
+    }
+
+    private static void heal(SoulLinkGroup group, int units) {
+        StatLedger ledger = group.ledger;
+        ledger.healthDelta += units;
+        ledger.dirty = true;
+        StatJournal.recordGroup(StatJournal.Kind.NATURAL_REGEN, group, units,
+                ledger.healthDelta);
+    }
+
+    /**
+     * Starvation hits the whole group once; the flush replays it on every member.
+     */
+    private static void starve(SoulLinkGroup group) {
+        StatLedger ledger = group.ledger;
+        ledger.healthDelta -= UNITS;
+        ledger.hitDamage += UNITS;
+        ledger.dirty = true;
+        StatJournal.recordGroup(StatJournal.Kind.STARVATION, group, -UNITS,
+                ledger.healthDelta);
+    }
+}
@@ -0,0 +1,38 @@
+package net.zenzty.soullink.server.health;
+
+/**
+ * Exact integer accumulator for amounts divided by member count. Each member's contribution of
+ * {@code u} units adds {@code u / count} to the shared pool; whole units are released as soon as
+ * they are available and the fractional rest is kept as a remainder over {@code count}, so nothing
+ * is lost or rounded differently between runs.
+ */
+final class NormalizedAccumulator {
+
+    // Pending fraction is remainder / divisor units
+    private long remainder = 0;
+    private int divisor = 1;
+
+    /**
+     * Adds one member's contribution and returns the whole units to apply now.
+     *
+     * @param units Amount contributed by one member, in fixed-point units
+     * @param count Current member count (must be positive)
+     */
+    int add(int units, int count) {
+        if (count != divisor) {
+            // Rescale the pending fraction to the new member count
+            remainder = remainder * count / divisor;
+            divisor = count;
+        }
+
+        long total = remainder + units;
+        long release = Math.floorDiv(total, count);
+        remainder = total - release * count;
+        return (int) release;
+    }
+
+    void clear() {
+        remainder = 0;
+        divisor = 1;
+    }
+}
@@ -0,0 +1,46 @@
+package net.zenzty.soullink.server.health;
+
+/**
+ * Duck interface implemented on ServerPlayerEntity by ServerPlayerEntityMixin. Stores the player's
+ * Soul Link group and index in its member array so membership checks and removals need no lookup,
+ * the health baseline used by the shared stat ledger, and the version stamps used for drift repair.
+ */
+public interface ParticipantHolder {
+
+    /**
+     * Returns the player's index in its group's member array, or -1 if not participating.
+     */
+    int soullink$getParticipantIndex();
+
+    void soullink$setParticipantIndex(int index);
+
+    /**
+     * Returns the Soul Link group the player currently belongs to, or null.
+     */
+    SoulLinkGroup soullink$getGroup();
+
+    void soullink$setGroup(SoulLinkGroup group);
+
+    /**
+     * Returns the health this player last had according to the shared stat ledger, or NaN if it
+     * has not been recorded yet. Used to turn absolute health readings into per-event deltas.
+     */
+    float soullink$getObservedHealth();
+
+    void soullink$setObservedHealth(float health);
+
+    /**
+     * Version bumped whenever the player's stats are changed outside the sync path.
+     */
+    int soullink$getTouchVersion();
+
+    void soullink$setTouchVersion(int version);
+
+    /**
+     * Touch version the player was last checked against the shared stats at. The player needs a
+     * drift check while this is behind {@link #soullink$getTouchVersion()}.
+     */
+    int soullink$getSyncedVersion();
+
+    void soullink$setSyncedVersion(int version);
+}
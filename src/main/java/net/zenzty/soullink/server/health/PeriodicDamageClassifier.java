@@ -0,0 +1,79 @@
+package net.zenzty.soullink.server.health;
+
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.entity.damage.DamageSource;
+import net.minecraft.entity.damage.DamageType;
+import net.minecraft.entity.damage.DamageTypes;
+import net.minecraft.entity.effect.StatusEffects;
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
+import net.zenzty.soullink.SoulLink;
+import net.zenzty.soullink.server.settings.Settings;
+
+/**
+ * Decides which damage counts as periodic (damage over time) and is therefore normalized by player
+ * count. The configured damage type ids and tags are resolved once into an identity set, so the
+ * damage hot path is a single hash lookup instead of string comparisons.
+ */
+public final class PeriodicDamageClassifier {
+
+    private static final ReferenceOpenHashSet<DamageType> periodicTypes =
+            new ReferenceOpenHashSet<>();
+
+    // Vanilla poison ticks deal magic damage, which is only periodic while the victim is poisoned
+    private static DamageType magicType = null;
+
+    private PeriodicDamageClassifier() {}
+
+    /**
+     * Resolves the configured damage types against the server's registry. Call on SERVER_STARTED
+     * after settings are loaded.
+     */
+    public static void rebuild(MinecraftServer server) {
+        periodicTypes.clear();
+        Registry<DamageType> registry =
+                server.getRegistryManager().getOrThrow(RegistryKeys.DAMAGE_TYPE);
+
+        for (String entry : Settings.getInstance().getPeriodicDamageTypes()) {
+            if (entry.startsWith("#")) {
+                Identifier tagId = Identifier.tryParse(entry.substring(1));
+                if (tagId == null) {
+                    SoulLink.LOGGER.warn("Invalid periodic damage tag '{}'", entry);
+                    continue;
+                }
+                TagKey<DamageType> tag = TagKey.of(RegistryKeys.DAMAGE_TYPE, tagId);
+                for (RegistryEntry<DamageType> type : registry.iterateEntries(tag)) {
+                    periodicTypes.add(type.value());
+                }
+            } else {
+                Identifier id = Identifier.tryParse(entry);
+                DamageType type = id != null ? registry.getOptionalValue(id).orElse(null) : null;
+                if (type == null) {
+                    SoulLink.LOGGER.warn("Unknown periodic damage type '{}'", entry);
+                    continue;
+                }
+                periodicTypes.add(type);
+            }
+        }
+
+        magicType = registry.getOptionalValue(DamageTypes.MAGIC.getValue()).orElse(null);
+
+        SoulLink.LOGGER.info("Periodic damage classifier built with {} damage types",
+                periodicTypes.size());
+    }
+
+    /**
+     * Returns whether this damage should be normalized by player count.
+     */
+    public static boolean isPeriodic(DamageSource source, ServerPlayerEntity victim) {
+        DamageType type = source.getType();
+        if (periodicTypes.contains(type))
+            return true;
+        return type == magicType && victim.hasStatusEffect(StatusEffects.POISON);
+    }
+}
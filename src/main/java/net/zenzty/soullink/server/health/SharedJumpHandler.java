@@ -1,42 +1,37 @@
 package net.zenzty.soullink.server.health;
 
-import java.util.HashSet;
-import java.util.Set;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import net.minecraft.network.listener.ClientPlayPacketListener;
+import net.minecraft.network.packet.Packet;
+import net.minecraft.network.packet.s2c.play.BundleS2CPacket;
 import net.minecraft.network.packet.s2c.play.EntityVelocityUpdateS2CPacket;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
-import net.minecraft.server.world.ServerWorld;
 import net.zenzty.soullink.SoulLink;
+import net.zenzty.soullink.server.event.EndTickPhases;
 import net.zenzty.soullink.server.run.RunManager;
 import net.zenzty.soullink.server.settings.Settings;
 
 /**
- * Handles shared jumping functionality. When a player jumps, forces all other players who didn't
- * jump in the same tick to also jump forward.
+ * Handles shared jumping functionality. When a player jumps, forces all other members of their Soul
+ * Link group who didn't jump in the same tick to also jump forward.
  * 
- * Uses deferred processing at tick end to prevent race conditions where multiple players jump in
- * the same tick, which could cause double velocity due to latency.
+ * Uses deferred processing in the JUMPS end-of-tick phase to prevent race conditions where multiple
+ * players jump in the same tick, which could cause double velocity due to latency. Jumpers are
+ * tracked in a bitset per group indexed by member slot, and the forced jumps of a group are sent to
+ * its members as one bundle.
  */
 public class SharedJumpHandler {
 
-    // Track players who jumped naturally in the current tick
-    private static final Set<UUID> jumpersThisTick = new HashSet<>();
+    // Velocity packets of the group being processed, reused across ticks
+    private static final List<Packet<? super ClientPlayPacketListener>> velocityPackets =
+            new ArrayList<>();
 
-    // Track players who have been forced to jump this tick (to prevent double velocity)
-    private static final Set<UUID> forcedJumpersThisTick = new HashSet<>();
-
-    // Track the last tick we collected jumpers for
-    private static int lastCollectedTick = -1;
-
-    // Track the last tick we processed jumps for
-    private static int lastProcessedTick = -1;
-
-    // Flag to prevent processing jumps multiple times per tick
+    // Flag to ignore jumps caused by forced jumps while processing
     private static boolean processingJumps = false;
 
-
-
     /**
      * Called when a player jumps naturally. Registers them as a jumper for this tick, but defers
      * forcing others until the end of the tick to prevent race conditions.
@@ -56,134 +51,107 @@ public class SharedJumpHandler {
             return;
         }
 
-        MinecraftServer server = runManager.getServer();
-        if (server == null)
+        // Jumps are only shared within the player's Soul Link group
+        SoulLinkGroup group = SoulLinkParticipants.getGroup(player);
+        if (group == null) {
             return;
-
-        int currentTick = server.getTicks();
-
-        // If this is a new tick, clear the sets only if we've already processed the previous tick
-        // This prevents clearing sets before processing if a new tick starts early
-        if (currentTick != lastCollectedTick) {
-            // Only clear if we've already processed the previous tick's jumps
-            // or if this is the first tick we're tracking
-            if (lastProcessedTick >= lastCollectedTick || lastCollectedTick == -1) {
-                jumpersThisTick.clear();
-                forcedJumpersThisTick.clear();
-            }
-            lastCollectedTick = currentTick;
         }
 
-        // Add this player to the jumpers set (only if not already processing)
+        // Mark this player's slot (only if not already processing)
         // This prevents double-counting if somehow called during processing
         if (!processingJumps) {
-            jumpersThisTick.add(player.getUuid());
+            group.jumpers.set(((ParticipantHolder) player).soullink$getParticipantIndex());
+            EndTickPhases.request(EndTickPhases.Phase.JUMPS);
         }
 
-        // Log for debugging
-        SoulLink.LOGGER.debug("[Shared Jump] {} jumped (tick {})", player.getName().getString(),
-                currentTick);
+        SoulLink.LOGGER.debug("[Shared Jump] {} jumped", player.getName().getString());
     }
 
     /**
-     * Processes all jumps at the end of a tick. Forces all players who didn't jump naturally to
-     * jump. This is called at tick end to prevent race conditions.
+     * Processes all jumps of this tick. Forces all players who didn't jump naturally to jump. Runs
+     * in the JUMPS end-of-tick phase, only in ticks where someone jumped.
      */
     public static void processJumpsAtTickEnd(MinecraftServer server) {
         Settings settings = Settings.getInstance();
-        if (!settings.isSharedJumping()) {
-            return;
-        }
-
         RunManager runManager = RunManager.getInstance();
-        if (runManager == null || !runManager.isRunActive()) {
-            return;
-        }
-
-        // If no one jumped in the last processed tick, nothing to do
-        if (jumpersThisTick.isEmpty()) {
-            return;
-        }
-
-        // Prevent recursive calls
-        if (processingJumps) {
+        if (!settings.isSharedJumping() || runManager == null || !runManager.isRunActive()) {
+            reset();
             return;
         }
 
-        // Process jumps for the tick that just ended (lastProcessedTick)
-        // END_SERVER_TICK may fire when the tick has already advanced, so we process
-        // based on lastProcessedTick rather than current tick
         processingJumps = true;
         try {
-            // Force all non-jumping players to jump
-            for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                // Skip players not in the run
-                ServerWorld playerWorld = player.getEntityWorld();
-                if (playerWorld == null
-                        || !runManager.isTemporaryWorld(playerWorld.getRegistryKey())) {
+            // Force all non-jumping members of groups where someone jumped
+            List<SoulLinkGroup> groups = SoulLinkParticipants.groups();
+            for (int g = 0; g < groups.size(); g++) {
+                SoulLinkGroup group = groups.get(g);
+                BitSet jumpers = group.jumpers;
+                if (jumpers.isEmpty())
                     continue;
+
+                ServerPlayerEntity[] members = group.members();
+                int memberCount = group.count();
+                for (int i = jumpers.nextClearBit(0); i < memberCount; i =
+                        jumpers.nextClearBit(i + 1)) {
+                    ServerPlayerEntity player = members[i];
+                    if (applyForceJump(player)) {
+                        velocityPackets.add(new EntityVelocityUpdateS2CPacket(player));
+                    }
                 }
 
-                // Skip players who already jumped naturally this tick
-                if (jumpersThisTick.contains(player.getUuid()))
-                    continue;
+                SoulLink.LOGGER.debug("[Shared Jump] Group '{}': {} natural jumpers, {} forced",
+                        group.getId(), jumpers.cardinality(), velocityPackets.size());
 
-                // Skip players who have already been forced to jump this tick
-                if (forcedJumpersThisTick.contains(player.getUuid()))
-                    continue;
-
-                // Apply force jump to this player
-                applyForceJump(player);
-                forcedJumpersThisTick.add(player.getUuid());
+                jumpers.clear();
+                sendVelocityPackets(members, memberCount);
             }
-
-            SoulLink.LOGGER.debug(
-                    "[Shared Jump] Processed {} natural jumpers at tick end (tick {})",
-                    jumpersThisTick.size(), lastCollectedTick);
-
-            // Mark this tick as processed
-            lastProcessedTick = lastCollectedTick;
-
-            // Clear the sets after processing to prepare for the next tick
-            // This ensures we don't process the same jumps twice
-            jumpersThisTick.clear();
-            forcedJumpersThisTick.clear();
         } finally {
+            velocityPackets.clear();
             processingJumps = false;
         }
     }
 
     /**
      * Applies a jump force to a player (upward only).
+     *
+     * @return true if the player jumped
      */
-    private static void applyForceJump(ServerPlayerEntity player) {
+    private static boolean applyForceJump(ServerPlayerEntity player) {
         // Only apply if player is on the ground (prevent air stacking)
         if (!player.isOnGround()) {
-            return;
+            return false;
         }
 
         // Invoke vanilla jump path to trigger stats, exhaustion, and sounds
         player.jump();
+        return true;
+    }
 
-        // If server->client velocity sync is still required, follow it with the packet send
-        // Note: player.jump() usually handles velocity, but server-side jump might need explicit
-        // sync for some entities
-
-        // Send velocity update packet to sync with client
-        player.networkHandler.sendPacket(new EntityVelocityUpdateS2CPacket(player));
+    /**
+     * Sends the group's forced jump velocities to every member in one bundle, so each client sees
+     * all forced teammates jump in the same frame.
+     */
+    private static void sendVelocityPackets(ServerPlayerEntity[] members, int memberCount) {
+        if (velocityPackets.isEmpty())
+            return;
 
-        SoulLink.LOGGER.debug("[Shared Jump] Forced jump applied to {}",
-                player.getName().getString());
+        Packet<? super ClientPlayPacketListener> packet = velocityPackets.size() == 1
+                ? velocityPackets.get(0)
+                : new BundleS2CPacket(List.copyOf(velocityPackets));
+        for (int i = 0; i < memberCount; i++) {
+            members[i].networkHandler.sendPacket(packet);
+        }
+        velocityPackets.clear();
     }
 
     /**
      * Resets state for a new run.
      */
     public static void reset() {
-        jumpersThisTick.clear();
-        forcedJumpersThisTick.clear();
-        lastCollectedTick = -1;
-        lastProcessedTick = -1;
+        for (SoulLinkGroup group : SoulLinkParticipants.groups()) {
+            group.jumpers.clear();
+        }
+        velocityPackets.clear();
         processingJumps = false;
     }
 }
@@ -1,27 +1,35 @@
 package net.zenzty.soullink.server.health;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.List;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.entity.AreaEffectCloudEntity;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.effect.StatusEffect;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
+import net.minecraft.entity.projectile.ProjectileEntity;
+import net.minecraft.registry.Registries;
 import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.Vec3d;
 import net.zenzty.soullink.SoulLink;
+import net.zenzty.soullink.server.event.EndTickPhases;
 import net.zenzty.soullink.server.run.RunManager;
 import net.zenzty.soullink.server.settings.Settings;
 
 /**
- * Handles shared potion effects between all players. Instant potions (healing/harming) are applied
- * to one player (the closest) then synced via health. Duration-based effects are synced to all
- * players immediately.
+ * Handles shared potion effects between linked players. Instant potions (healing/harming) are
+ * applied to one player of each Soul Link group (the closest) then synced via health.
+ * Duration-based effects are copied to the other members of the player's group at the end of the
+ * tick in one batched pass per recipient. Dedup state uses packed long keys and is cleared once per
+ * tick by endTick().
  * 
  * NOTE: This handler currently only handles instant damage (harming) effects to ensure shared
  * health is deducted immediately. Non-instant effects are generally handled by Minecraft's potion
@@ -29,69 +37,93 @@ import net.zenzty.soullink.server.settings.Settings;
  */
 public class SharedPotionHandler {
 
-    // Track effects being synced to prevent infinite loops
-    private static boolean isSyncing = false;
+    // Track effects being synced to prevent infinite loops (tracked per thread)
+    private static final SyncGuard syncGuard = new SyncGuard();
 
-    // Track which effects have already been synced to prevent duplicates
-    // Cleared at the end of the tick via server.execute().
-    private static final Set<String> recentlySyncedEffects = new HashSet<>();
+    // Packed keys (see effectKey) of duration effects already synced this tick. Cleared once
+    // per tick by endTick().
+    private static final LongOpenHashSet recentlySyncedEffects = new LongOpenHashSet();
 
-    // Track pending instant effects for the current tick
-    // Key: effect type ID, Value: map of player UUID to their distance from impact
-    private static final Map<String, PendingSplashEvent> pendingSplashEvents = new HashMap<>();
+    // Instant effects blocked this tick, keyed by group, effect and amplifier (see effectKey).
+    // Resolved and cleared by endTick().
+    private static final Long2ObjectOpenHashMap<PendingSplashEvent> pendingSplashEvents =
+            new Long2ObjectOpenHashMap<>();
 
-    // The current game tick for tracking splash events
-    private static long currentTick = -1;
+    // Cloud and projectile pulses already fanned out, keyed by group, effect, amplifier and source
+    // entity id (see effectKey), mapped to the tick the key expires
+    private static final Long2IntOpenHashMap recentPulses = new Long2IntOpenHashMap();
 
-    // Track which players have been chosen for each splash event this tick
+    // Clouds reapply every 20 ticks by default; one pulse reaches each player inside at a
+    // different tick, so pulses are deduped over this window instead of per tick
+    private static final int PULSE_WINDOW_TICKS = 20;
 
+    private static int lastPulsePruneTick = 0;
+
+    // Duration effects to fan out to the rest of their group at the end of this tick
+    private static final List<PendingEffect> pendingEffects = new ArrayList<>();
+
+    /**
+     * A duration effect one member received, to be copied to the other members of the group.
+     */
+    private record PendingEffect(SoulLinkGroup group, ServerPlayerEntity source,
+            StatusEffectInstance effect) {
+    }
 
     /**
      * Represents a pending splash event with multiple affected players.
      */
     private static class PendingSplashEvent {
-        final Map<UUID, Double> playerDistances = new HashMap<>();
-        final Map<UUID, Vec3d> playerPositions = new HashMap<>();
-        Vec3d impactCenter = null;
-        UUID closestPlayer = null;
-        boolean processed = false;
-        boolean scheduledProcessing = false; // Track if we've scheduled deferred processing
-        StatusEffectInstance pendingEffect = null; // The effect to apply to the closest player
+        final List<ServerPlayerEntity> players = new ArrayList<>();
+        final List<Vec3d> positions = new ArrayList<>();
+        final StatusEffectInstance pendingEffect; // The effect to apply to the closest player
+
+        PendingSplashEvent(StatusEffectInstance pendingEffect) {
+            this.pendingEffect = pendingEffect;
+        }
 
         void addAffectedPlayer(ServerPlayerEntity player) {
-            Vec3d pos = new Vec3d(player.getX(), player.getY(), player.getZ());
-            playerPositions.put(player.getUuid(), pos);
+            players.add(player);
+            positions.add(new Vec3d(player.getX(), player.getY(), player.getZ()));
         }
 
-        void calculateClosestPlayer() {
-            if (processed || playerPositions.isEmpty())
-                return;
+        /**
+         * Returns the player closest to the centroid of all affected players.
+         */
+        ServerPlayerEntity findClosestPlayer() {
+            int count = positions.size();
+            if (count == 0)
+                return null;
 
-            // Calculate the impact center as the centroid of all affected players
             double centerX = 0, centerY = 0, centerZ = 0;
-            for (Vec3d pos : playerPositions.values()) {
+            for (int i = 0; i < count; i++) {
+                Vec3d pos = positions.get(i);
                 centerX += pos.x;
                 centerY += pos.y;
                 centerZ += pos.z;
             }
-            int count = playerPositions.size();
-            impactCenter = new Vec3d(centerX / count, centerY / count, centerZ / count);
+            Vec3d impactCenter = new Vec3d(centerX / count, centerY / count, centerZ / count);
 
-            // Calculate distances and find the closest player
+            ServerPlayerEntity closest = null;
             double minDistance = Double.MAX_VALUE;
-            for (Map.Entry<UUID, Vec3d> entry : playerPositions.entrySet()) {
-                double distance = entry.getValue().squaredDistanceTo(impactCenter);
-                playerDistances.put(entry.getKey(), distance);
-
+            for (int i = 0; i < count; i++) {
+                double distance = positions.get(i).squaredDistanceTo(impactCenter);
                 if (distance < minDistance) {
                     minDistance = distance;
-                    closestPlayer = entry.getKey();
+                    closest = players.get(i);
                 }
             }
-
-            processed = true;
+            return closest;
         }
+    }
 
+    /**
+     * Packs group, effect type, amplifier and duration into one long key: 12 bits group index, 12
+     * bits raw effect id, 8 bits amplifier and the low 32 bits duration.
+     */
+    private static long effectKey(SoulLinkGroup group, StatusEffectInstance effect, int duration) {
+        long effectId = Registries.STATUS_EFFECT.getRawId(effect.getEffectType().value());
+        return ((long) (group.getIndex() & 0xFFF) << 52) | ((effectId & 0xFFF) << 40)
+                | ((long) (effect.getAmplifier() & 0xFF) << 32) | (duration & 0xFFFFFFFFL);
     }
 
     /**
@@ -103,14 +135,28 @@ public class SharedPotionHandler {
     }
 
     /**
-     * Updates the tick counter and cleans up old splash events.
+     * Applies this tick's blocked instant effects to the closest player of each group and clears
+     * the per-tick dedup state. Runs in the POTIONS end-of-tick phase, before the shared stat
+     * flush.
      */
-    public static void onTick(MinecraftServer server) {
-        long newTick = server.getTicks();
-        if (newTick != currentTick) {
-            // New tick - clean up old splash events
+    public static void endTick(MinecraftServer server) {
+        recentlySyncedEffects.clear();
+        prunePulses(server.getTicks());
+
+        if (!pendingSplashEvents.isEmpty()) {
+            for (ObjectIterator<PendingSplashEvent> it = pendingSplashEvents.values().iterator(); it
+                    .hasNext();) {
+                processPendingSplashEvent(it.next());
+            }
             pendingSplashEvents.clear();
-            currentTick = newTick;
+        }
+
+        if (!pendingEffects.isEmpty()) {
+            try {
+                fanOutPendingEffects();
+            } finally {
+                pendingEffects.clear();
+            }
         }
     }
 
@@ -125,7 +171,7 @@ public class SharedPotionHandler {
      */
     public static boolean onEffectApplied(ServerPlayerEntity player, StatusEffectInstance effect,
             Entity source) {
-        if (isSyncing) {
+        if (syncGuard.isActive()) {
             return true; // Allow synced effects through
         }
 
@@ -143,12 +189,18 @@ public class SharedPotionHandler {
             return true;
         }
 
+        // Effects are only shared within the player's Soul Link group
+        SoulLinkGroup group = SoulLinkParticipants.getGroup(player);
+        if (group == null) {
+            return true;
+        }
+
         RegistryEntry<StatusEffect> effectType = effect.getEffectType();
 
         // Handle instant effects (healing and damage) - only allow the closest player to receive it
         if (isInstantEffect(effectType)) {
             try {
-                return handleInstantEffect(player, effect, runManager);
+                return handleInstantEffect(player, group, effect);
             } catch (RuntimeException r) {
                 throw r;
             } catch (Exception e) {
@@ -158,88 +210,48 @@ public class SharedPotionHandler {
             }
         }
 
-        // For duration-based effects, sync to all other players
-        return handleDurationEffect(player, effect, runManager);
+        // For duration-based effects, sync to all other players in the group
+        return handleDurationEffect(player, group, effect, source, runManager);
     }
 
     /**
      * Handles instant effects (healing/harming) from splash potions. Blocks ALL instant effects
      * initially, tracks affected players, then at the end of the tick applies the effect only to
-     * the closest player. This prevents healing/damage multiplication when multiple players are in
-     * the splash area.
+     * the closest player of each group. This prevents healing/damage multiplication when multiple
+     * players are in the splash area.
      */
-    private static boolean handleInstantEffect(ServerPlayerEntity player,
-            StatusEffectInstance effect, RunManager runManager) {
-        MinecraftServer server = runManager.getServer();
-        if (server == null)
-            return true;
-
-        // Ensure we're tracking the current tick
-        onTick(server);
-
-        RegistryEntry<StatusEffect> effectType = effect.getEffectType();
-        String eventKey =
-                effectType.getIdAsString() + "_" + effect.getAmplifier() + "_" + currentTick;
+    private static boolean handleInstantEffect(ServerPlayerEntity player, SoulLinkGroup group,
+            StatusEffectInstance effect) {
+        // Instant effects have no meaningful duration; events only live for the current tick
+        long eventKey = effectKey(group, effect, 0);
 
         // Get or create the splash event for this effect
-        PendingSplashEvent splashEvent =
-                pendingSplashEvents.computeIfAbsent(eventKey, k -> new PendingSplashEvent());
-
-        // Register this player as affected (store their position and the effect)
-        splashEvent.addAffectedPlayer(player);
-
-        // Store the effect details if not already stored
-        if (splashEvent.pendingEffect == null) {
-            splashEvent.pendingEffect = effect;
+        PendingSplashEvent splashEvent = pendingSplashEvents.get(eventKey);
+        if (splashEvent == null) {
+            splashEvent = new PendingSplashEvent(effect);
+            pendingSplashEvents.put(eventKey, splashEvent);
         }
 
-        // If this is the first player being registered, schedule deferred processing
-        if (!splashEvent.scheduledProcessing) {
-            splashEvent.scheduledProcessing = true;
-
-            // Use server.execute to defer processing until after all splash effects are registered
-            // This runs at the end of the current tick after all addStatusEffect calls complete
-            server.execute(() -> {
-                processPendingSplashEvent(eventKey, splashEvent, runManager);
-            });
-        }
+        // Register this player as affected; endTick() applies the effect to the closest one
+        splashEvent.addAffectedPlayer(player);
+        EndTickPhases.request(EndTickPhases.Phase.POTIONS);
 
         // Block all instant effects from being applied normally
-        // The deferred processing will apply the effect to the closest player only
         return false;
     }
 
     /**
      * Process a pending splash event - applies the instant effect only to the closest player.
      */
-    private static void processPendingSplashEvent(String eventKey, PendingSplashEvent splashEvent,
-            RunManager runManager) {
-        if (splashEvent.processed)
-            return;
-        splashEvent.processed = true;
-
-        MinecraftServer server = runManager.getServer();
-        if (server == null)
-            return;
-
-        // Calculate which player is closest to the splash center
-        splashEvent.calculateClosestPlayer();
-
-        UUID closestPlayerUuid = splashEvent.closestPlayer;
-        if (closestPlayerUuid == null)
-            return;
-
+    private static void processPendingSplashEvent(PendingSplashEvent splashEvent) {
         StatusEffectInstance effect = splashEvent.pendingEffect;
-        if (effect == null)
-            return;
 
-        // Find the closest player and apply the effect only to them
-        ServerPlayerEntity player = server.getPlayerManager().getPlayer(closestPlayerUuid);
-        if (player != null) {
+        // Apply the effect only to the player closest to the splash center
+        ServerPlayerEntity player = splashEvent.findClosestPlayer();
+        if (player != null && !player.isRemoved()) {
             // Apply the instant effect directly using the heal/damage method
-            // Use SharedStatsHandler.setSyncing() to prevent heal/damage from triggering sync
-            SharedStatsHandler.setSyncing(true);
-            try {
+            // Run inside a stats sync to prevent heal/damage from triggering sync
+            SharedStatsHandler.withSyncingDisabled(() -> {
                 RegistryEntry<StatusEffect> effectType = effect.getEffectType();
                 int amplifier = effect.getAmplifier();
 
@@ -258,83 +270,97 @@ public class SharedPotionHandler {
                     SoulLink.LOGGER.debug("Applied instant damage ({} HP) to closest player: {}",
                             damageAmount, player.getName().getString());
                 }
-            } finally {
-                SharedStatsHandler.setSyncing(false);
-            }
+            });
         }
 
         SoulLink.LOGGER.info("Splash instant effect: {} players affected, applied to closest: {}",
-                splashEvent.playerPositions.size(),
+                splashEvent.players.size(),
                 player != null ? player.getName().getString() : "unknown");
     }
 
     /**
-     * Handles duration-based effects - syncs to all other players.
+     * Handles duration-based effects - syncs to all other players in the group.
      */
-    private static boolean handleDurationEffect(ServerPlayerEntity player,
-            StatusEffectInstance effect, RunManager runManager) {
-        RegistryEntry<StatusEffect> effectType = effect.getEffectType();
-
-        // Create a unique key for this effect to prevent duplicate syncs
-        String effectKey = effectType.getIdAsString() + "_" + effect.getDuration() + "_"
-                + effect.getAmplifier();
-        if (recentlySyncedEffects.contains(effectKey)) {
-            return true; // Already synced this tick
+    private static boolean handleDurationEffect(ServerPlayerEntity player, SoulLinkGroup group,
+            StatusEffectInstance effect, Entity source, RunManager runManager) {
+        // A cloud or projectile pulse reaches the team once, however many members it hits
+        if (source instanceof AreaEffectCloudEntity || source instanceof ProjectileEntity) {
+            MinecraftServer server = runManager.getServer();
+            if (server != null && !claimPulse(effectKey(group, effect, source.getId()),
+                    server.getTicks())) {
+                return true;
+            }
         }
 
-        // Sync duration-based effect to all other players
-        syncEffectToOtherPlayers(player, effect);
-
-        // Mark as recently synced (will be cleared after a short delay)
-        recentlySyncedEffects.add(effectKey);
-
-        // Schedule cleanup of the recently synced set
-        MinecraftServer server = runManager.getServer();
-        if (server != null) {
-            server.execute(() -> {
-                recentlySyncedEffects.remove(effectKey);
-            });
+        // Skip effects already synced to this group this tick (cleared by endTick())
+        if (!recentlySyncedEffects.add(effectKey(group, effect, effect.getDuration()))) {
+            return true;
         }
 
+        // Copy now; the source's own instance keeps ticking until the fan-out runs
+        pendingEffects.add(new PendingEffect(group, player, new StatusEffectInstance(effect)));
+        EndTickPhases.request(EndTickPhases.Phase.POTIONS);
+
         return true;
     }
 
     /**
-     * Syncs a status effect to all other players in the run.
+     * Claims a pulse for fan-out. Returns false if the same source already spread this effect to
+     * the group within the pulse window.
      */
-    private static void syncEffectToOtherPlayers(ServerPlayerEntity sourcePlayer,
-            StatusEffectInstance effect) {
-        RunManager runManager = RunManager.getInstance();
-        if (runManager == null)
-            return;
+    private static boolean claimPulse(long key, int tick) {
+        if (tick < recentPulses.getOrDefault(key, Integer.MIN_VALUE))
+            return false;
+        recentPulses.put(key, tick + PULSE_WINDOW_TICKS);
+        return true;
+    }
 
-        MinecraftServer server = runManager.getServer();
-        if (server == null)
+    /**
+     * Drops expired pulse keys, at most once per pulse window.
+     */
+    private static void prunePulses(int tick) {
+        if (recentPulses.isEmpty() || tick - lastPulsePruneTick < PULSE_WINDOW_TICKS)
             return;
+        lastPulsePruneTick = tick;
+        for (IntIterator it = recentPulses.values().iterator(); it.hasNext();) {
+            if (tick >= it.nextInt()) {
+                it.remove();
+            }
+        }
+    }
 
-        isSyncing = true;
+    /**
+     * Applies this tick's duration effects to the other members of each source's group. Each
+     * recipient gets all of their effects in one pass, written directly into their effect map,
+     * and one bundled packet.
+     */
+    private static void fanOutPendingEffects() {
+        syncGuard.enter();
         try {
-            for (ServerPlayerEntity otherPlayer : server.getPlayerManager().getPlayerList()) {
-                if (otherPlayer == sourcePlayer)
-                    continue;
-
-                ServerWorld otherWorld = otherPlayer.getEntityWorld();
-                if (!runManager.isTemporaryWorld(otherWorld.getRegistryKey()))
-                    continue;
-
-                // Apply a copy of the effect to the other player
-                StatusEffectInstance effectCopy = new StatusEffectInstance(effect.getEffectType(),
-                        effect.getDuration(), effect.getAmplifier(), effect.isAmbient(),
-                        effect.shouldShowParticles(), effect.shouldShowIcon());
-
-                otherPlayer.addStatusEffect(effectCopy);
+            List<SoulLinkGroup> groups = SoulLinkParticipants.groups();
+            for (int g = 0; g < groups.size(); g++) {
+                SoulLinkGroup group = groups.get(g);
+                ServerPlayerEntity[] members = group.members();
+                int memberCount = group.count();
+                for (int i = 0; i < memberCount; i++) {
+                    ServerPlayerEntity recipient = members[i];
+                    EffectBatch.begin(recipient);
+                    try {
+                        for (int e = 0; e < pendingEffects.size(); e++) {
+                            PendingEffect pending = pendingEffects.get(e);
+                            if (pending.group() == group && pending.source() != recipient) {
+                                EffectBatch.apply(pending.effect());
+                            }
+                        }
+                    } finally {
+                        EffectBatch.end();
+                    }
+                }
             }
 
-            SoulLink.LOGGER.debug("Synced effect {} from {} to other players",
-                    effect.getEffectType().getIdAsString(), sourcePlayer.getName().getString());
-
+            SoulLink.LOGGER.debug("Synced {} effects to group members", pendingEffects.size());
         } finally {
-            isSyncing = false;
+            syncGuard.exit();
         }
     }
 
@@ -342,16 +368,17 @@ public class SharedPotionHandler {
      * Checks if the system is currently syncing effects.
      */
     public static boolean isSyncing() {
-        return isSyncing;
+        return syncGuard.isActive();
     }
 
     /**
      * Resets state for a new run.
      */
     public static void reset() {
-        isSyncing = false;
         recentlySyncedEffects.clear();
         pendingSplashEvents.clear();
-        currentTick = -1;
+        pendingEffects.clear();
+        recentPulses.clear();
+        lastPulsePruneTick = 0;
     }
 }
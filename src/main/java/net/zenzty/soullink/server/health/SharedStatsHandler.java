@@ -1,121 +1,103 @@
 package net.zenzty.soullink.server.health;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
+import it.unimi.dsi.fastutil.HashCommon;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.damage.DamageSource;
+import net.minecraft.network.packet.s2c.play.BundleS2CPacket;
+import net.minecraft.network.packet.s2c.play.EntityDamageS2CPacket;
+import net.minecraft.network.packet.s2c.play.HealthUpdateS2CPacket;
+import net.minecraft.registry.RegistryKeys;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
-import net.minecraft.text.Text;
-import net.minecraft.util.Formatting;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.zenzty.soullink.SoulLink;
-import net.zenzty.soullink.server.manhunt.ManhuntManager;
+import net.zenzty.soullink.mixin.player.ServerPlayerEntityAccessor;
 import net.zenzty.soullink.server.run.RunManager;
 import net.zenzty.soullink.server.settings.Settings;
 
 /**
- * Handles shared health, hunger, and saturation between all players. Implements the "Soul Link"
- * mechanic where all players share the same vital stats. In Manhunt mode, only Runners participate.
+ * Handles shared health, hunger, and saturation between linked players. Implements the "Soul Link"
+ * mechanic where all players of a {@link SoulLinkGroup} share the same vital stats. In Manhunt
+ * mode, only Runners participate.
+ *
+ * Stat events are routed to the player's group and do not write to other players directly. They
+ * record deltas in the group's tick-local ledger which flushTick() applies once at the end of the
+ * server tick, so each player receives at most one health/hunger/absorption update per tick
+ * regardless of how many events fired. Every mutation is also recorded in the {@link StatJournal}.
+ *
+ * The hooks may be called from several world threads at once (parallel world ticking), so each
+ * records into its group while holding the ledger's monitor, and the flush applies the ledger
+ * under the same lock.
  */
 public class SharedStatsHandler {
 
-    // Master stat values
-    private static volatile float sharedHealth = 20.0f;
-    private static volatile int sharedHunger = 20;
-    private static volatile float sharedSaturation = 5.0f;
-    private static volatile float sharedAbsorption = 0.0f; // Absorption hearts (golden apples, etc)
+    // Prevent infinite sync loops (tracked per thread)
+    private static final SyncGuard syncGuard = new SyncGuard();
 
-    // Prevent infinite sync loops
-    private static volatile boolean isSyncing = false;
-
-    // Accumulator for fractional natural regen (since we divide by player count)
-    private static volatile float regenAccumulator = 0.0f;
-
-    // Accumulator for fractional regeneration effect healing (since we divide by player count)
-    private static volatile float regenerationHealAccumulator = 0.0f;
-
-    // Accumulators for fractional hunger/saturation drain (since we divide by player count)
-    private static volatile float hungerDrainAccumulator = 0.0f;
-    private static volatile float saturationDrainAccumulator = 0.0f;
-
-    // Accumulator for fractional damage (Poison/Wither)
-    private static volatile float damageAccumulator = 0.0f;
+    // Players whose stats were touched outside the sync path since the last drift check; guarded
+    // by its own monitor together with touchVersion
+    private static final List<ServerPlayerEntity> touchedPlayers = new ArrayList<>();
+    private static int touchVersion = 0;
 
     /**
      * Gets the current max health based on settings.
      */
-    private static float getMaxHealth() {
+    static float getMaxHealth() {
         return Settings.getInstance().isHalfHeartMode() ? 1.0f : 20.0f;
     }
 
     /**
-     * Returns whether this player participates in shared Soul Link stats. When Manhunt is off, all
-     * players in the run participate. When Manhunt is on, only Runners participate; Hunters use
-     * vanilla mechanics.
-     *
-     * @param player the player to check
-     * @return true if the player should share health, hunger, and related stats
-     */
-    private static boolean shouldParticipateInSoulLink(ServerPlayerEntity player) {
-        RunManager runManager;
-        try {
-            runManager = RunManager.getInstance();
-        } catch (IllegalStateException e) {
-            return false;
-        }
-        if (!runManager.isRunActive())
-            return false;
-        if (!Settings.getInstance().isManhuntMode())
-            return true;
-        return ManhuntManager.getInstance().isSpeedrunner(player);
-    }
-
-    /**
-     * Resets all shared stats to default values. Called when starting a new run.
+     * Resets all shared stats to default values by dropping every group. Called when starting a
+     * new run.
      */
     public static void reset() {
-        // Use half heart mode max health if enabled
-        float maxHealth = getMaxHealth();
-
-        sharedHealth = maxHealth;
-        sharedHunger = 20;
-        sharedSaturation = 5.0f;
-        sharedAbsorption = 0.0f;
-        isSyncing = false;
-        regenAccumulator = 0.0f;
-        regenerationHealAccumulator = 0.0f;
-        hungerDrainAccumulator = 0.0f;
-        saturationDrainAccumulator = 0.0f;
-        damageAccumulator = 0.0f;
+        synchronized (touchedPlayers) {
+            for (ServerPlayerEntity player : touchedPlayers) {
+                ParticipantHolder holder = (ParticipantHolder) player;
+                holder.soullink$setSyncedVersion(holder.soullink$getTouchVersion());
+            }
+            touchedPlayers.clear();
+        }
+        SoulLinkParticipants.clear();
+        CombatLogAggregator.reset();
+        StatJournal.clear();
 
         // Also reset other shared handlers
         SharedPotionHandler.reset();
         SharedJumpHandler.reset();
 
-        SoulLink.LOGGER.info("Shared stats reset to defaults (maxHealth={})", maxHealth);
+        SoulLink.LOGGER.info("Shared stats reset to defaults (maxHealth={})", getMaxHealth());
     }
 
     /**
-     * Syncs a player's stats to the current shared values. Used for late joiners and reconnecting
-     * players.
+     * Syncs a player's stats to their group's shared values. Used for late joiners and
+     * reconnecting players.
      */
     public static void syncPlayerToSharedStats(ServerPlayerEntity player) {
-        if (isSyncing)
+        if (syncGuard.isActive())
+            return;
+
+        SoulLinkGroup group = SoulLinkParticipants.groupFor(player);
+        if (group.isEliminated())
             return;
+        Vitals vitals = group.vitals();
 
-        isSyncing = true;
+        syncGuard.enter();
         try {
-            player.setHealth(sharedHealth);
-            player.setAbsorptionAmount(sharedAbsorption);
-            player.getHungerManager().setFoodLevel(sharedHunger);
-            player.getHungerManager().setSaturationLevel(sharedSaturation);
+            writeHealth(player, vitals.health());
+            player.setAbsorptionAmount(vitals.absorption());
+            player.getHungerManager().setFoodLevel(vitals.hunger());
+            player.getHungerManager().setSaturationLevel(vitals.saturation());
             SoulLink.LOGGER.debug(
-                    "Synced {} to shared stats: HP={}, Absorption={}, Food={}, Sat={}",
-                    player.getName().getString(), sharedHealth, sharedAbsorption, sharedHunger,
-                    sharedSaturation);
+                    "Synced {} to shared stats of group '{}': HP={}, Absorption={}, Food={}, Sat={}",
+                    player.getName().getString(), group.getId(), vitals.health(),
+                    vitals.absorption(), vitals.hunger(), vitals.saturation());
         } finally {
-            isSyncing = false;
+            syncGuard.exit();
         }
     }
 
@@ -128,758 +110,635 @@ public class SharedStatsHandler {
     }
 
     /**
-     * Called when a player's health changes after taking damage. Updates the master health and
-     * syncs to all other players with visual feedback.
-     * 
+     * Returns the health the ledger last saw for this player. Falls back to the group's shared
+     * value if the player has not been written to yet.
+     */
+    private static float getObservedHealth(ServerPlayerEntity player, SoulLinkGroup group) {
+        float observed = ((ParticipantHolder) player).soullink$getObservedHealth();
+        return Float.isNaN(observed) ? group.vitals().health() : observed;
+    }
+
+    /**
+     * Sets a player's health and records it as the ledger baseline for that player. Use this
+     * instead of setHealth() whenever health is set outside the damage/heal hooks (run reset,
+     * death handling), so the next damage is measured from the health the player really has.
+     */
+    public static void writeHealth(ServerPlayerEntity player, float health) {
+        player.setHealth(health);
+        ((ParticipantHolder) player).soullink$setObservedHealth(player.getHealth());
+    }
+
+    /**
+     * Called when a player's health changes after taking damage. Records the damage in the group
+     * ledger; other members are updated (with visual feedback) when the tick is flushed.
+     *
      * @param damagedPlayer The player who took damage
      * @param newHealth The player's health AFTER damage was applied (armor already calculated)
      * @param damageSource The source of the damage
      */
     public static void onPlayerHealthChanged(ServerPlayerEntity damagedPlayer, float newHealth,
             DamageSource damageSource) {
-        if (isSyncing)
-            return;
-        if (!shouldParticipateInSoulLink(damagedPlayer))
-            return;
-
-        RunManager runManager = RunManager.getInstance();
-        if (runManager == null || !runManager.isRunActive())
+        if (syncGuard.isActive())
             return;
-
-        ServerWorld playerWorld = getPlayerWorld(damagedPlayer);
-        if (playerWorld == null)
+        SoulLinkGroup group = SoulLinkParticipants.getGroup(damagedPlayer);
+        if (group == null)
             return;
 
-        if (!runManager.isTemporaryWorld(playerWorld.getRegistryKey()))
+        // Measure against this player's own baseline so several players hit in the same tick
+        // each contribute their own damage
+        float currentDamageAmount = getObservedHealth(damagedPlayer, group) - newHealth;
+        ((ParticipantHolder) damagedPlayer).soullink$setObservedHealth(newHealth);
+        if (currentDamageAmount <= 0)
             return;
 
-        isSyncing = true;
-        try {
-            float oldHealth = sharedHealth;
-            float currentDamageAmount = oldHealth - newHealth;
-
-            // Handle periodic damage (Poison/Wither) - normalize by player count
-            // Without this, N players poisoned = Nx damage speed
-            String damageType = damageSource.getName();
-            if (damageType.equals("poison") || damageType.equals("wither")) {
-                handlePeriodicDamage(damagedPlayer, currentDamageAmount);
-                return;
+        // Queue the hit for the combat log (if enabled); hits are merged and broadcast per window
+        if (Settings.getInstance().isDamageLogEnabled()) {
+            MinecraftServer server = RunManager.getInstance().getServer();
+            if (server != null) {
+                CombatLogAggregator.record(damagedPlayer, damageSource, currentDamageAmount,
+                        server);
             }
+        }
 
-            // Update the master health to match the damaged player's health
-            sharedHealth = MathHelper.clamp(newHealth, 0.0f, getMaxHealth());
+        // Handle periodic damage (Poison, Wither, fire ticks, ...) - normalize by player count
+        // Without this, N players poisoned = Nx damage speed
+        if (PeriodicDamageClassifier.isPeriodic(damageSource, damagedPlayer)) {
+            handlePeriodicDamage(group, damagedPlayer, damageSource, currentDamageAmount);
+            return;
+        }
 
-            // Check for death condition
-            if (sharedHealth <= 0) {
-                SoulLink.LOGGER.info("Shared health depleted - triggering game over");
-                runManager.triggerGameOver();
-                return;
+        int damageUnits = Vitals.toUnits(currentDamageAmount);
+        boolean area = damageSource.getSource() != null || damageSource.getPosition() != null;
+        long key = area ? areaKey(damagedPlayer, damageSource) : 0L;
+        StatLedger ledger = group.ledger;
+        synchronized (ledger) {
+            if (area) {
+                // Explosions, sweeps and clouds hit every nearby member; arbitrated at flush
+                int counted = ledger.recordAreaHit(key, damageUnits);
+                StatJournal.recordHit(StatJournal.Kind.AREA_HIT, group, damagedPlayer,
+                        damageSource, -damageUnits, -counted);
+            } else {
+                ledger.healthDelta -= damageUnits;
+                ledger.hitDamage += damageUnits;
+                StatJournal.recordHit(StatJournal.Kind.HIT, group, damagedPlayer, damageSource,
+                        -damageUnits, ledger.healthDelta);
             }
+            ledger.damageSources.add(damagedPlayer);
+            ledger.dirty = true;
+        }
 
-            // Only sync to other players if health actually decreased
-            if (sharedHealth < oldHealth) {
-                MinecraftServer server = runManager.getServer();
-                if (server == null)
-                    return;
-
-                float syncedDamageAmount = oldHealth - sharedHealth;
-                List<ServerPlayerEntity> players = server.getPlayerManager().getPlayerList();
-
-                // Broadcast damage notification to all players (if combat log is enabled)
-                if (Settings.getInstance().isDamageLogEnabled()) {
-                    // Convert from half-hearts to full hearts for display (Minecraft stores health
-                    // as
-                    // 0-20, where 1 heart = 2). Round to nearest 0.5 hearts and ensure minimum 0.5.
-                    float damageInHearts = syncedDamageAmount / 2.0f;
-                    float roundedDamage = Math.max(0.5f, Math.round(damageInHearts * 2.0f) / 2.0f);
-                    String damageText = String.format(Locale.US, "%.1f", roundedDamage);
-                    Text damageNotification = Text.empty().append(RunManager.getPrefix())
-                            .append(Text.literal(damagedPlayer.getName().getString())
-                                    .formatted(Formatting.WHITE))
-                            .append(Text.literal(" has taken ").formatted(Formatting.GRAY))
-                            .append(Text.literal(damageText + " ❤").formatted(Formatting.RED))
-                            .append(Text.literal(" damage.").formatted(Formatting.GRAY));
-                    server.getPlayerManager().broadcast(damageNotification, false);
-                }
-
-                for (ServerPlayerEntity player : players) {
-                    if (player == damagedPlayer || player.isSpectator() || player.isCreative())
-                        continue;
-                    if (!shouldParticipateInSoulLink(player))
-                        continue;
-
-                    ServerWorld otherWorld = getPlayerWorld(player);
-                    if (otherWorld == null)
-                        continue;
-
-                    if (!runManager.isTemporaryWorld(otherWorld.getRegistryKey()))
-                        continue;
-
-                    // Apply actual damage to trigger all client-side effects (red flash, screen
-                    // shake, sound)
-                    // Use the world's damage sources for correct API usage
-                    DamageSource syncDamage = otherWorld.getDamageSources().generic();
-
-                    // Apply damage using the world-aware damage method
-                    // The isSyncing flag prevents onPlayerHealthChanged from recursing
-                    player.damage(otherWorld, syncDamage, syncedDamageAmount);
-
-                    // Safety check: if player "died" due to local damage but shared health remains,
-                    // restore them
-                    if (!player.isAlive() && sharedHealth > 0) {
-                        player.setHealth(Math.max(1.0f, sharedHealth));
-                    } else {
-                        // Ensure health is exactly what we expect (in case of any rounding)
-                        player.setHealth(sharedHealth);
-                    }
-                }
-
-                SoulLink.LOGGER.debug("Health synced: {} -> {} (from {})", oldHealth, sharedHealth,
-                        damagedPlayer.getName().getString());
-            }
+        SoulLink.LOGGER.debug("Damage recorded: {} from {}", currentDamageAmount,
+                damagedPlayer.getName().getString());
+    }
 
-        } finally {
-            isSyncing = false;
+    /**
+     * Returns the area hit key for a damage source: the direct source entity (or the source
+     * position if there is none) combined with the damage type's raw registry id. Position keys
+     * have the top bit set so they never collide with entity keys.
+     */
+    private static long areaKey(ServerPlayerEntity player, DamageSource source) {
+        long type = getPlayerWorld(player).getRegistryManager().getOrThrow(RegistryKeys.DAMAGE_TYPE)
+                .getRawId(source.getType()) & 0xFFFFFFFFL;
+        Entity entity = source.getSource();
+        if (entity != null) {
+            return ((long) entity.getId() << 32) | type;
         }
+        long pos = BlockPos.ofFloored(source.getPosition()).asLong();
+        return Long.MIN_VALUE | (HashCommon.mix(pos) ^ type) & Long.MAX_VALUE;
     }
 
     /**
-     * Handles periodic damage (Poison/Wither) by normalizing it by player count and using an
-     * accumulator.
+     * Handles periodic damage (see PeriodicDamageClassifier) by normalizing it by the group's
+     * member count through an exact accumulator.
      */
-    private static void handlePeriodicDamage(ServerPlayerEntity damagedPlayer, float damageAmount) {
-        RunManager runManager = RunManager.getInstance();
-        MinecraftServer server = runManager.getServer();
-        if (server == null)
-            return;
-
-        int playerCount = 0;
-        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-            if (!shouldParticipateInSoulLink(player))
-                continue;
-            ServerWorld world = getPlayerWorld(player);
-            if (world != null && runManager.isTemporaryWorld(world.getRegistryKey())) {
-                playerCount++;
-            }
-        }
+    private static void handlePeriodicDamage(SoulLinkGroup group, ServerPlayerEntity damagedPlayer,
+            DamageSource damageSource, float damageAmount) {
+        int playerCount = group.count();
 
         if (playerCount == 0)
             return;
 
-        float normalizedDamage = damageAmount / playerCount;
-        damageAccumulator += normalizedDamage;
+        // Whole units are applied as soon as they accumulate. Either way the flush writes the
+        // shared value back, which also reverts the player's local damage.
+        int applied;
+        StatLedger ledger = group.ledger;
+        synchronized (ledger) {
+            applied = group.periodicDamage.add(Vitals.toUnits(damageAmount), playerCount);
+            ledger.healthDelta -= applied;
+            ledger.dirty = true;
+            StatJournal.recordHit(StatJournal.Kind.PERIODIC_DAMAGE, group, damagedPlayer,
+                    damageSource, -applied, ledger.healthDelta);
+        }
 
         SoulLink.LOGGER.debug(
-                "[DAMAGE DEBUG] Player {} took {} periodic damage, normalized to {} ({} players), accumulator now {}",
-                damagedPlayer.getName().getString(), damageAmount, normalizedDamage, playerCount,
-                damageAccumulator);
-
-        // Only apply damage when we've accumulated at least 0.5 HP
-        if (damageAccumulator >= 0.5f) {
-            float damageToApply = damageAccumulator;
-            damageAccumulator = 0.0f;
-
-            float oldHealth = sharedHealth;
-            sharedHealth = MathHelper.clamp(sharedHealth - damageToApply, 0.0f, getMaxHealth());
-
-            // Sync to all players
-            for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                if (!shouldParticipateInSoulLink(player))
-                    continue;
-                ServerWorld otherWorld = getPlayerWorld(player);
-                if (otherWorld == null || !runManager.isTemporaryWorld(otherWorld.getRegistryKey()))
-                    continue;
-
-                player.setHealth(sharedHealth);
-            }
-
-            SoulLink.LOGGER.debug("[DAMAGE DEBUG] Applied {} periodic damage: {} -> {}",
-                    damageToApply, oldHealth, sharedHealth);
-
-            if (sharedHealth <= 0) {
-                runManager.triggerGameOver();
-            }
-        } else {
-            // Revert the damage to the player since it hasn't reached the threshold yet
-            damagedPlayer.setHealth(sharedHealth);
-        }
+                "[DAMAGE DEBUG] Player {} took {} periodic damage, applying {} units ({} players)",
+                damagedPlayer.getName().getString(), damageAmount, applied, playerCount);
     }
 
     /**
-     * Called when a player heals (potions, etc.) Updates the master health and syncs to all
-     * players.
-     * 
+     * Called when a player heals (potions, etc.) Records the healing in the group ledger.
+     *
      * Note: Regeneration effect healing is handled separately by onRegenerationHeal() to normalize
      * by player count.
+     *
+     * @param healedPlayer The player who healed
+     * @param healAmount The health actually gained
      */
-    public static void onPlayerHealed(ServerPlayerEntity healedPlayer, float newHealth) {
-        if (isSyncing)
+    public static void onPlayerHealed(ServerPlayerEntity healedPlayer, float healAmount) {
+        if (syncGuard.isActive())
             return;
-        if (!shouldParticipateInSoulLink(healedPlayer))
+        SoulLinkGroup group = SoulLinkParticipants.getGroup(healedPlayer);
+        if (group == null)
             return;
 
-        RunManager runManager = RunManager.getInstance();
-        if (runManager == null || !runManager.isRunActive())
-            return;
-
-        ServerWorld playerWorld = getPlayerWorld(healedPlayer);
-        if (playerWorld == null)
+        ((ParticipantHolder) healedPlayer).soullink$setObservedHealth(healedPlayer.getHealth());
+        if (healAmount <= 0)
             return;
 
-        if (!runManager.isTemporaryWorld(playerWorld.getRegistryKey()))
-            return;
-
-        isSyncing = true;
-        try {
-            float oldHealth = sharedHealth;
-            sharedHealth = MathHelper.clamp(newHealth, 0.0f, getMaxHealth());
-
-            if (sharedHealth > oldHealth) {
-                MinecraftServer server = runManager.getServer();
-                if (server == null)
-                    return;
-
-                for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                    if (player == healedPlayer)
-                        continue;
-                    if (player.isSpectator() || player.isCreative())
-                        continue;
-                    if (!shouldParticipateInSoulLink(player))
-                        continue;
-
-                    if (player.isSpectator() || player.isCreative())
-                        continue;
-
-                    ServerWorld otherWorld = getPlayerWorld(player);
-                    if (otherWorld == null)
-                        continue;
-
-                    if (!runManager.isTemporaryWorld(otherWorld.getRegistryKey()))
-                        continue;
-
-                    player.setHealth(sharedHealth);
-                }
-
-                SoulLink.LOGGER.debug("Healing synced: {} -> {}", oldHealth, sharedHealth);
-            }
-
-        } finally {
-            isSyncing = false;
+        int healUnits = Vitals.toUnits(healAmount);
+        StatLedger ledger = group.ledger;
+        synchronized (ledger) {
+            ledger.healthDelta += healUnits;
+            ledger.dirty = true;
+            StatJournal.record(StatJournal.Kind.HEAL, group, healedPlayer, healUnits,
+                    ledger.healthDelta);
         }
+
+        SoulLink.LOGGER.debug("Healing recorded: {} from {}", healAmount,
+                healedPlayer.getName().getString());
     }
 
     /**
      * Called when a player heals from a regeneration effect. The healing amount is divided by the
-     * number of players in the run to normalize regen speed.
-     * 
+     * number of players in the group to normalize regen speed.
+     *
      * Without this, N players with regeneration = Nx healing speed since each player's regen would
      * stack.
      */
     public static void onRegenerationHeal(ServerPlayerEntity regenPlayer, float healAmount) {
-        if (isSyncing)
-            return;
-        if (!shouldParticipateInSoulLink(regenPlayer))
+        if (syncGuard.isActive())
             return;
-
-        RunManager runManager = RunManager.getInstance();
-        if (runManager == null || !runManager.isRunActive())
+        SoulLinkGroup group = SoulLinkParticipants.getGroup(regenPlayer);
+        if (group == null)
             return;
 
-        ServerWorld playerWorld = getPlayerWorld(regenPlayer);
-        if (playerWorld == null)
-            return;
+        int playerCount = group.count();
 
-        if (!runManager.isTemporaryWorld(playerWorld.getRegistryKey()))
+        if (playerCount == 0)
             return;
 
-        MinecraftServer server = runManager.getServer();
-        if (server == null)
-            return;
+        ((ParticipantHolder) regenPlayer).soullink$setObservedHealth(regenPlayer.getHealth());
 
-        int playerCount = 0;
-        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-            if (!shouldParticipateInSoulLink(player))
-                continue;
-            ServerWorld world = getPlayerWorld(player);
-            if (world != null && runManager.isTemporaryWorld(world.getRegistryKey())) {
-                playerCount++;
-            }
+        // Divide the heal amount by player count; the fractional rest carries over exactly. The
+        // flush also reverts the part of the player's local heal not applied yet.
+        int applied;
+        StatLedger ledger = group.ledger;
+        synchronized (ledger) {
+            applied = group.regenerationHeal.add(Vitals.toUnits(healAmount), playerCount);
+            ledger.healthDelta += applied;
+            ledger.dirty = true;
+            StatJournal.record(StatJournal.Kind.REGENERATION_EFFECT, group, regenPlayer, applied,
+                    ledger.healthDelta);
         }
 
-        if (playerCount == 0)
-            return;
-
-        // Divide the heal amount by player count and accumulate
-        float normalizedHeal = healAmount / playerCount;
-        regenerationHealAccumulator += normalizedHeal;
-
         SoulLink.LOGGER.debug(
-                "[REGEN EFFECT DEBUG] Player {} healed {} HP from regeneration, normalized to {} ({} players), accumulator now {}",
-                regenPlayer.getName().getString(), healAmount, normalizedHeal, playerCount,
-                regenerationHealAccumulator);
-
-        // Only apply healing when we've accumulated at least 0.5 HP (prevents constant tiny
-        // updates)
-        if (regenerationHealAccumulator >= 0.5f) {
-            float healToApply = regenerationHealAccumulator;
-            regenerationHealAccumulator = 0.0f;
-
-            isSyncing = true;
-            try {
-                float oldHealth = sharedHealth;
-                sharedHealth = MathHelper.clamp(sharedHealth + healToApply, 0.0f, getMaxHealth());
-
-                if (sharedHealth > oldHealth) {
-                    // Sync to all players
-                    for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                        if (!shouldParticipateInSoulLink(player))
-                            continue;
-                        ServerWorld otherWorld = getPlayerWorld(player);
-                        if (otherWorld == null)
-                            continue;
-
-                        if (!runManager.isTemporaryWorld(otherWorld.getRegistryKey()))
-                            continue;
-
-                        player.setHealth(sharedHealth);
-                    }
-
-                    SoulLink.LOGGER.debug(
-                            "[REGEN EFFECT DEBUG] Applied {} HP healing from regeneration: {} -> {} ({} players in run)",
-                            healToApply, oldHealth, sharedHealth, playerCount);
-                }
-            } finally {
-                isSyncing = false;
-            }
-        } else {
-            // Revert the healing to the player since it hasn't reached the threshold yet
-            regenPlayer.setHealth(sharedHealth);
-        }
+                "[REGEN EFFECT DEBUG] Player {} healed {} HP from regeneration, applying {} units ({} players)",
+                regenPlayer.getName().getString(), healAmount, applied, playerCount);
     }
 
     /**
-     * Called when a player's absorption amount changes (from golden apples, etc). Updates the
-     * master absorption and syncs to all other players.
+     * Called when a player's absorption amount changes (from golden apples, etc). Records the new
+     * absorption in the group ledger; the last value reported in a tick wins.
      */
     public static void onAbsorptionChanged(ServerPlayerEntity changedPlayer, float newAbsorption) {
-        if (isSyncing)
-            return;
-        if (!shouldParticipateInSoulLink(changedPlayer))
-            return;
-
-        RunManager runManager = RunManager.getInstance();
-        if (runManager == null || !runManager.isRunActive())
-            return;
-
-        ServerWorld playerWorld = getPlayerWorld(changedPlayer);
-        if (playerWorld == null)
-            return;
-
-        if (!runManager.isTemporaryWorld(playerWorld.getRegistryKey()))
+        if (syncGuard.isActive())
             return;
-
-        if (Math.abs(newAbsorption - sharedAbsorption) < 0.1f)
+        SoulLinkGroup group = SoulLinkParticipants.getGroup(changedPlayer);
+        if (group == null)
             return;
 
-        isSyncing = true;
-        try {
-            float oldAbsorption = sharedAbsorption;
-            sharedAbsorption = MathHelper.clamp(newAbsorption, 0.0f, 20.0f);
-
-            MinecraftServer server = runManager.getServer();
-            if (server == null)
+        int updated = Vitals.toUnits(newAbsorption);
+        StatLedger ledger = group.ledger;
+        synchronized (ledger) {
+            int current = ledger.absorption == Vitals.NO_ABSORPTION
+                    ? group.vitals().absorptionUnits()
+                    : ledger.absorption;
+            if (updated == current)
                 return;
 
-            for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                if (player == changedPlayer)
-                    continue;
-                if (!shouldParticipateInSoulLink(player))
-                    continue;
-
-                ServerWorld otherWorld = getPlayerWorld(player);
-                if (otherWorld == null)
-                    continue;
-
-                if (!runManager.isTemporaryWorld(otherWorld.getRegistryKey()))
-                    continue;
-
-                player.setAbsorptionAmount(sharedAbsorption);
-            }
-
-            SoulLink.LOGGER.debug("Absorption synced: {} -> {} (from {})", oldAbsorption,
-                    sharedAbsorption, changedPlayer.getName().getString());
-
-        } finally {
-            isSyncing = false;
+            ledger.absorption = updated;
+            ledger.dirty = true;
+            StatJournal.record(StatJournal.Kind.ABSORPTION, group, changedPlayer,
+                    updated - current, updated);
         }
     }
 
     /**
      * Called when a player naturally regenerates health (from saturation/hunger). The healing
-     * amount is divided by the number of players in the run to normalize regen speed.
-     * 
+     * amount is divided by the number of players in the group to normalize regen speed.
+     *
      * Without this, N players = Nx regen speed since each player's regen would stack.
      */
     public static void onNaturalRegen(ServerPlayerEntity regenPlayer, float healAmount) {
-        if (isSyncing)
+        if (syncGuard.isActive())
             return;
-        if (!shouldParticipateInSoulLink(regenPlayer))
+        SoulLinkGroup group = SoulLinkParticipants.getGroup(regenPlayer);
+        if (group == null)
             return;
 
-        RunManager runManager = RunManager.getInstance();
-        if (runManager == null || !runManager.isRunActive())
-            return;
-
-        ServerWorld playerWorld = getPlayerWorld(regenPlayer);
-        if (playerWorld == null)
-            return;
-
-        if (!runManager.isTemporaryWorld(playerWorld.getRegistryKey()))
-            return;
-
-        MinecraftServer server = runManager.getServer();
-        if (server == null)
-            return;
-
-        int playerCount = 0;
-        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-            if (!shouldParticipateInSoulLink(player))
-                continue;
-            ServerWorld world = getPlayerWorld(player);
-            if (world != null && runManager.isTemporaryWorld(world.getRegistryKey())) {
-                playerCount++;
-            }
-        }
+        int playerCount = group.count();
 
         if (playerCount == 0)
             return;
 
-        // Divide the heal amount by player count and accumulate
-        float normalizedHeal = healAmount / playerCount;
-        regenAccumulator += normalizedHeal;
-
-        SoulLink.LOGGER.debug(
-                "[REGEN DEBUG] Player {} healed {} HP, normalized to {} ({} players), accumulator now {}",
-                regenPlayer.getName().getString(), healAmount, normalizedHeal, playerCount,
-                regenAccumulator);
-
-        // Only apply healing when we've accumulated at least 0.5 HP (prevents constant tiny
-        // updates)
-        if (regenAccumulator >= 0.5f) {
-            float healToApply = regenAccumulator;
-            regenAccumulator = 0.0f;
+        ((ParticipantHolder) regenPlayer).soullink$setObservedHealth(regenPlayer.getHealth());
 
-            isSyncing = true;
-            try {
-                float oldHealth = sharedHealth;
-                sharedHealth = MathHelper.clamp(sharedHealth + healToApply, 0.0f, getMaxHealth());
-
-                if (sharedHealth > oldHealth) {
-                    // Sync to all players
-                    for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                        if (!shouldParticipateInSoulLink(player))
-                            continue;
-                        ServerWorld otherWorld = getPlayerWorld(player);
-                        if (otherWorld == null)
-                            continue;
-
-                        if (!runManager.isTemporaryWorld(otherWorld.getRegistryKey()))
-                            continue;
-
-                        player.setHealth(sharedHealth);
-                    }
-
-                    SoulLink.LOGGER.debug(
-                            "[REGEN DEBUG] Applied {} HP healing: {} -> {} ({} players in run)",
-                            healToApply, oldHealth, sharedHealth, playerCount);
-                }
-            } finally {
-                isSyncing = false;
-            }
+        // Divide the heal amount by player count; the fractional rest carries over exactly
+        int applied;
+        StatLedger ledger = group.ledger;
+        synchronized (ledger) {
+            applied = group.regen.add(Vitals.toUnits(healAmount), playerCount);
+            ledger.healthDelta += applied;
+            ledger.dirty = true;
+            StatJournal.record(StatJournal.Kind.NATURAL_REGEN, group, regenPlayer, applied,
+                    ledger.healthDelta);
         }
+
+        SoulLink.LOGGER.debug("[REGEN DEBUG] Player {} healed {} HP, applying {} units ({} players)",
+                regenPlayer.getName().getString(), healAmount, applied, playerCount);
     }
 
     /**
-     * Called when a player's hunger changes. Updates master values and syncs to all other players.
+     * Called when a player's hunger increases (eating). Records the gain in the group ledger.
+     *
+     * @param player The player whose hunger changed
+     * @param foodGain Food level gained since the last update
+     * @param saturationGain Saturation gained since the last update
      */
-    public static void onPlayerHungerChanged(ServerPlayerEntity player, int newFoodLevel,
-            float newSaturation) {
-        if (isSyncing)
+    public static void onPlayerHungerChanged(ServerPlayerEntity player, int foodGain,
+            float saturationGain) {
+        if (syncGuard.isActive())
             return;
-        if (!shouldParticipateInSoulLink(player))
-            return;
-
-        RunManager runManager = RunManager.getInstance();
-        if (runManager == null || !runManager.isRunActive())
+        SoulLinkGroup group = SoulLinkParticipants.getGroup(player);
+        if (group == null)
             return;
 
-        ServerWorld playerWorld = getPlayerWorld(player);
-        if (playerWorld == null)
+        int saturationUnits = Vitals.toUnits(saturationGain);
+        if (foodGain == 0 && saturationUnits == 0)
             return;
 
-        if (!runManager.isTemporaryWorld(playerWorld.getRegistryKey()))
-            return;
-
-        isSyncing = true;
-        try {
-            boolean foodChanged = newFoodLevel != sharedHunger;
-            boolean satChanged = Math.abs(newSaturation - sharedSaturation) > 0.01f;
-
-            if (!foodChanged && !satChanged) {
-                return;
+        StatLedger ledger = group.ledger;
+        synchronized (ledger) {
+            ledger.foodDelta += foodGain;
+            ledger.saturationDelta += saturationUnits;
+            ledger.dirty = true;
+            if (foodGain != 0) {
+                StatJournal.record(StatJournal.Kind.FOOD_GAIN, group, player, foodGain,
+                        ledger.foodDelta);
             }
-
-            sharedHunger = MathHelper.clamp(newFoodLevel, 0, 20);
-            sharedSaturation = MathHelper.clamp(newSaturation, 0.0f, 20.0f);
-
-            MinecraftServer server = runManager.getServer();
-            if (server == null)
-                return;
-
-            for (ServerPlayerEntity otherPlayer : server.getPlayerManager().getPlayerList()) {
-                if (otherPlayer == player)
-                    continue;
-                if (!shouldParticipateInSoulLink(otherPlayer))
-                    continue;
-
-                ServerWorld otherWorld = getPlayerWorld(otherPlayer);
-                if (otherWorld == null)
-                    continue;
-
-                if (!runManager.isTemporaryWorld(otherWorld.getRegistryKey()))
-                    continue;
-
-                otherPlayer.getHungerManager().setFoodLevel(sharedHunger);
-                otherPlayer.getHungerManager().setSaturationLevel(sharedSaturation);
+            if (saturationUnits != 0) {
+                StatJournal.record(StatJournal.Kind.SATURATION_GAIN, group, player,
+                        saturationUnits, ledger.saturationDelta);
             }
-
-            SoulLink.LOGGER.debug("Hunger synced: Food={}, Saturation={}", sharedHunger,
-                    sharedSaturation);
-
-        } finally {
-            isSyncing = false;
         }
     }
 
     /**
      * Called when a player's hunger/saturation drains from natural regeneration. The drain is
-     * divided by the number of players to normalize drain rate.
-     * 
+     * divided by the number of players in the group to normalize drain rate.
+     *
      * Without this, N players = Nx hunger drain since each player's regen consumes hunger.
      */
     public static void onNaturalHungerDrain(ServerPlayerEntity drainPlayer, int foodDrain,
             float satDrain) {
-        if (isSyncing)
+        if (syncGuard.isActive())
             return;
-        if (!shouldParticipateInSoulLink(drainPlayer))
+        SoulLinkGroup group = SoulLinkParticipants.getGroup(drainPlayer);
+        if (group == null)
             return;
 
-        RunManager runManager = RunManager.getInstance();
-        if (runManager == null || !runManager.isRunActive())
-            return;
+        int playerCount = group.count();
 
-        ServerWorld playerWorld = getPlayerWorld(drainPlayer);
-        if (playerWorld == null)
+        if (playerCount == 0)
             return;
 
-        if (!runManager.isTemporaryWorld(playerWorld.getRegistryKey()))
-            return;
+        // Divide the drain by player count; food is applied in whole levels, saturation in
+        // fixed-point units, and the fractional rest of each carries over exactly
+        StatLedger ledger = group.ledger;
+        synchronized (ledger) {
+            int foodApplied = group.hungerDrain.add(foodDrain, playerCount);
+            int saturationApplied =
+                    group.saturationDrain.add(Vitals.toUnits(satDrain), playerCount);
+            ledger.foodDelta -= foodApplied;
+            ledger.saturationDelta -= saturationApplied;
+            StatJournal.record(StatJournal.Kind.FOOD_DRAIN, group, drainPlayer, -foodApplied,
+                    ledger.foodDelta);
+            StatJournal.record(StatJournal.Kind.SATURATION_DRAIN, group, drainPlayer,
+                    -saturationApplied, ledger.saturationDelta);
+
+            // Flush even if nothing was released so the player's local drain is reverted
+            ledger.dirty = true;
+        }
+    }
 
-        MinecraftServer server = runManager.getServer();
-        if (server == null)
+    /**
+     * Applies everything recorded in each group's tick ledger. Called at the end of every server
+     * tick before tickSync().
+     */
+    public static void flushTick(MinecraftServer server) {
+        RunManager runManager;
+        try {
+            runManager = RunManager.getInstance();
+        } catch (IllegalStateException e) {
             return;
+        }
 
-        int playerCount = 0;
-        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-            if (!shouldParticipateInSoulLink(player))
+        List<SoulLinkGroup> groups = SoulLinkParticipants.groups();
+        for (int g = 0; g < groups.size(); g++) {
+            SoulLinkGroup group = groups.get(g);
+            if (!runManager.isRunActive()) {
+                synchronized (group.ledger) {
+                    group.ledger.clear();
+                }
                 continue;
-            ServerWorld world = getPlayerWorld(player);
-            if (world != null && runManager.isTemporaryWorld(world.getRegistryKey())) {
-                playerCount++;
             }
+
+            // Game over drops all groups, which ends this loop
+            flushGroup(group, runManager);
         }
+    }
 
-        if (playerCount == 0)
-            return;
+    /**
+     * Applies one group's ledger: updates its master values, eliminates the group if its health ran
+     * out, and otherwise writes the result to each member once.
+     */
+    private static void flushGroup(SoulLinkGroup group, RunManager runManager) {
+        StatLedger ledger = group.ledger;
+        int maxHealth = Vitals.toUnits(getMaxHealth());
+        Vitals before;
+        Vitals after;
+
+        // Hooks on other threads record under the same lock, so no delta can land between reading
+        // the ledger and clearing it
+        synchronized (ledger) {
+            if (!ledger.dirty)
+                return;
+            ledger.resolveAreaHits();
+
+            before = group.vitals();
+            after = before.apply(ledger.healthDelta, ledger.foodDelta, ledger.saturationDelta,
+                    ledger.absorption, maxHealth);
+            group.setVitals(after);
+
+            StatJournal.recordGroup(StatJournal.Kind.FLUSH_HEALTH, group,
+                    after.healthUnits() - before.healthUnits(), after.healthUnits());
+            if (after.hunger() != before.hunger()) {
+                StatJournal.recordGroup(StatJournal.Kind.FLUSH_FOOD, group,
+                        after.hunger() - before.hunger(), after.hunger());
+            }
+            if (after.saturationUnits() != before.saturationUnits()) {
+                StatJournal.recordGroup(StatJournal.Kind.FLUSH_SATURATION, group,
+                        after.saturationUnits() - before.saturationUnits(),
+                        after.saturationUnits());
+            }
 
-        // Divide the drain by player count and accumulate
-        float normalizedFoodDrain = (float) foodDrain / playerCount;
-        float normalizedSatDrain = satDrain / playerCount;
+            try {
+                if (after.healthUnits() > 0) {
+                    writeMembers(group, ledger, before, after);
+                }
+            } finally {
+                ledger.clear();
+            }
+        }
 
-        hungerDrainAccumulator += normalizedFoodDrain;
-        saturationDrainAccumulator += normalizedSatDrain;
+        // Check for death condition; game over only follows once no other group is left
+        if (after.healthUnits() <= 0) {
+            SoulLink.LOGGER.info("Shared health of group '{}' depleted", group.getId());
+            runManager.eliminateGroup(group);
+            return;
+        }
 
-        // Check if we should apply the accumulated drain
-        boolean shouldApply = hungerDrainAccumulator >= 1.0f || saturationDrainAccumulator >= 0.5f;
+        SoulLink.LOGGER.debug("Group '{}' flushed: {} -> {}", group.getId(), before, after);
+    }
 
-        if (shouldApply) {
-            isSyncing = true;
-            try {
-                // Apply accumulated food drain (whole numbers only)
-                int foodToApply = (int) hungerDrainAccumulator;
-                if (foodToApply > 0) {
-                    sharedHunger = MathHelper.clamp(sharedHunger - foodToApply, 0, 20);
-                    hungerDrainAccumulator -= foodToApply;
+    /**
+     * Writes a flushed group's new shared stats to each member once. Called with the ledger lock
+     * held.
+     */
+    private static void writeMembers(SoulLinkGroup group, StatLedger ledger, Vitals before,
+            Vitals after) {
+        float visualDamage = Vitals.fromUnits(
+                Math.min(ledger.hitDamage, before.healthUnits() - after.healthUnits()));
+        boolean lightweight = Settings.getInstance().isLightweightDamageReplication();
+
+        syncGuard.enter();
+        try {
+            ServerPlayerEntity[] members = group.members();
+            int memberCount = group.count();
+            for (int i = 0; i < memberCount; i++) {
+                ServerPlayerEntity player = members[i];
+
+                // Replay hits on players who weren't hit to trigger client-side effects (red
+                // flash, screen shake, sound). The sync guard prevents recursion.
+                boolean replay = visualDamage > 0 && !player.isCreative()
+                        && !ledger.damageSources.contains(player);
+                if (replay && !lightweight) {
+                    ServerWorld world = getPlayerWorld(player);
+                    player.damage(world, world.getDamageSources().generic(), visualDamage);
                 }
 
-                // Apply accumulated saturation drain
-                if (saturationDrainAccumulator >= 0.1f) {
-                    float satToApply = saturationDrainAccumulator;
-                    sharedSaturation = MathHelper.clamp(sharedSaturation - satToApply, 0.0f, 20.0f);
-                    saturationDrainAccumulator = 0.0f;
+                // Safety check: if player "died" due to local damage but shared health remains,
+                // restore them
+                if (!player.isAlive()) {
+                    writeHealth(player, Math.max(1.0f, after.health()));
+                } else {
+                    writeHealth(player, after.health());
                 }
+                player.setAbsorptionAmount(after.absorption());
+                player.getHungerManager().setFoodLevel(after.hunger());
+                player.getHungerManager().setSaturationLevel(after.saturation());
 
-                for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                    if (!shouldParticipateInSoulLink(player))
-                        continue;
-                    ServerWorld otherWorld = getPlayerWorld(player);
-                    if (otherWorld == null)
-                        continue;
+                if (replay && lightweight) {
+                    replicateHit(player);
+                }
+            }
+        } finally {
+            syncGuard.exit();
+        }
+    }
 
-                    if (!runManager.isTemporaryWorld(otherWorld.getRegistryKey()))
-                        continue;
+    /**
+     * Shows a hit to a player who was not hit without running the vanilla damage pipeline, after
+     * the shared stats were written: one bundle with the hurt animation/sound and the health update
+     * goes to the player, and nearby players get the hurt animation.
+     */
+    private static void replicateHit(ServerPlayerEntity player) {
+        float health = player.getHealth();
+        int food = player.getHungerManager().getFoodLevel();
+        float saturation = player.getHungerManager().getSaturationLevel();
+
+        ServerWorld world = getPlayerWorld(player);
+        EntityDamageS2CPacket damagePacket =
+                new EntityDamageS2CPacket(player, world.getDamageSources().generic());
+        player.networkHandler.sendPacket(new BundleS2CPacket(List.of(damagePacket,
+                new HealthUpdateS2CPacket(health, food, saturation))));
+        world.getChunkManager().sendToOtherNearbyPlayers(player, damagePacket);
+
+        // The client is up to date, so the vanilla player tick has nothing to resend
+        ServerPlayerEntityAccessor accessor = (ServerPlayerEntityAccessor) player;
+        accessor.setSyncedHealth(health);
+        accessor.setSyncedFoodLevel(food);
+        accessor.setSyncedSaturationIsZero(saturation == 0.0f);
+    }
 
-                    player.getHungerManager().setFoodLevel(sharedHunger);
-                    player.getHungerManager().setSaturationLevel(sharedSaturation);
-                }
+    /**
+     * Marks a player's stats as changed outside the sync path so the next tickSync() checks them
+     * for drift. Called from the setHealth, absorption and hunger hooks.
+     */
+    public static void markTouched(ServerPlayerEntity player) {
+        if (syncGuard.isActive())
+            return;
+        ParticipantHolder holder = (ParticipantHolder) player;
+        if (holder.soullink$getGroup() == null)
+            return;
 
-                SoulLink.LOGGER.debug(
-                        "Natural hunger drain applied: Food={}, Sat={} (from {} players)",
-                        sharedHunger, sharedSaturation, playerCount);
-            } finally {
-                isSyncing = false;
+        // Queue only on the first touch since the last check
+        synchronized (touchedPlayers) {
+            if (holder.soullink$getTouchVersion() == holder.soullink$getSyncedVersion()) {
+                touchedPlayers.add(player);
             }
+            holder.soullink$setTouchVersion(++touchVersion);
         }
     }
 
     /**
-     * Periodic sync check - ensures all players stay in sync. Called from server tick event.
+     * Drift repair. Every second, players touched outside the sync path are compared against their
+     * group's shared stats; all members are audited on the slower configured interval. Idle runs
+     * with nothing touched skip the scan entirely. Called from server tick event.
      */
     public static void tickSync(MinecraftServer server) {
-        if (isSyncing)
+        if (syncGuard.isActive())
             return;
 
         RunManager runManager = RunManager.getInstance();
         if (runManager == null || !runManager.isRunActive())
             return;
 
-        // Only run every 20 ticks (1 second)
-        if (server.getTicks() % 20 != 0)
+        int ticks = server.getTicks();
+        int auditInterval = Settings.getInstance().getStatAuditIntervalTicks();
+        boolean fullAudit = auditInterval > 0 && ticks % auditInterval == 0;
+
+        // Touched players are checked every 20 ticks (1 second)
+        if (!fullAudit && ticks % 20 != 0)
             return;
 
-        isSyncing = true;
+        syncGuard.enter();
         try {
-            for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                if (!shouldParticipateInSoulLink(player))
-                    continue;
-                ServerWorld playerWorld = getPlayerWorld(player);
-                if (playerWorld == null)
-                    continue;
-
-                if (!runManager.isTemporaryWorld(playerWorld.getRegistryKey()))
-                    continue;
-
-                float playerHealth = player.getHealth();
-                float playerAbsorption = player.getAbsorptionAmount();
-                int playerFood = player.getHungerManager().getFoodLevel();
-                float playerSat = player.getHungerManager().getSaturationLevel();
-
-                if (Math.abs(playerHealth - sharedHealth) > 0.5f) {
-                    player.setHealth(sharedHealth);
-                }
-                if (Math.abs(playerAbsorption - sharedAbsorption) > 0.5f) {
-                    player.setAbsorptionAmount(sharedAbsorption);
-                }
-                if (playerFood != sharedHunger) {
-                    player.getHungerManager().setFoodLevel(sharedHunger);
+            if (fullAudit) {
+                List<SoulLinkGroup> groups = SoulLinkParticipants.groups();
+                for (int g = 0; g < groups.size(); g++) {
+                    SoulLinkGroup group = groups.get(g);
+                    ServerPlayerEntity[] members = group.members();
+                    int memberCount = group.count();
+                    for (int i = 0; i < memberCount; i++) {
+                        repairDrift(members[i], group);
+                    }
                 }
-                if (Math.abs(playerSat - sharedSaturation) > 0.5f) {
-                    player.getHungerManager().setSaturationLevel(sharedSaturation);
+            }
+
+            synchronized (touchedPlayers) {
+                for (int i = 0; i < touchedPlayers.size(); i++) {
+                    ServerPlayerEntity player = touchedPlayers.get(i);
+                    ParticipantHolder holder = (ParticipantHolder) player;
+                    SoulLinkGroup group = holder.soullink$getGroup();
+                    if (!fullAudit && group != null) {
+                        repairDrift(player, group);
+                    }
+                    holder.soullink$setSyncedVersion(holder.soullink$getTouchVersion());
                 }
+                touchedPlayers.clear();
             }
         } finally {
-            isSyncing = false;
+            syncGuard.exit();
         }
     }
 
     /**
-     * Checks if the system is currently syncing (to prevent loops).
+     * Writes back any stat that drifted away from the group's shared value.
      */
-    public static boolean isSyncing() {
-        return isSyncing;
+    private static void repairDrift(ServerPlayerEntity player, SoulLinkGroup group) {
+        Vitals vitals = group.vitals();
+        float playerHealth = player.getHealth();
+        float playerAbsorption = player.getAbsorptionAmount();
+        int playerFood = player.getHungerManager().getFoodLevel();
+        float playerSat = player.getHungerManager().getSaturationLevel();
+
+        if (Math.abs(playerHealth - vitals.health()) > 0.5f) {
+            writeHealth(player, vitals.health());
+        }
+        if (Math.abs(playerAbsorption - vitals.absorption()) > 0.5f) {
+            player.setAbsorptionAmount(vitals.absorption());
+        }
+        if (playerFood != vitals.hunger()) {
+            player.getHungerManager().setFoodLevel(vitals.hunger());
+        }
+        if (Math.abs(playerSat - vitals.saturation()) > 0.5f) {
+            player.getHungerManager().setSaturationLevel(vitals.saturation());
+        }
     }
 
     /**
-     * Sets the syncing flag. Used by other shared handlers (like SharedPotionHandler) to prevent
-     * heal/damage operations from triggering additional syncs.
+     * Checks if the current thread is applying a sync (to prevent loops).
      */
-    public static void setSyncing(boolean syncing) {
-        isSyncing = syncing;
+    public static boolean isSyncing() {
+        return syncGuard.isActive();
     }
 
     /**
-     * Executes a task with syncing temporarily disabled.
+     * Executes a task as part of a sync, so heal/damage operations it performs do not trigger
+     * additional syncs. Used by other shared handlers (like SharedPotionHandler).
      */
     public static void withSyncingDisabled(Runnable task) {
-        boolean wasSyncing = isSyncing;
-        setSyncing(true); // "Syncing" means we are currently applying a sync, so ignore local
-                          // changes
+        syncGuard.enter();
         try {
             task.run();
         } finally {
-            setSyncing(wasSyncing);
+            syncGuard.exit();
         }
     }
 
-    // Getters
-
-    public static float getSharedHealth() {
-        return sharedHealth;
-    }
-
-    public static int getSharedHunger() {
-        return sharedHunger;
-    }
-
-    public static float getSharedSaturation() {
-        return sharedSaturation;
-    }
-
     /**
-     * Force sets the shared health (for admin/debug purposes).
+     * Force sets the shared health of every group (for admin/debug purposes).
      */
     public static void setSharedHealth(float health, MinecraftServer server) {
         float clampedHealth = MathHelper.clamp(health, 0.0f, getMaxHealth());
+        int healthUnits = Vitals.toUnits(clampedHealth);
 
-        if (server == null) {
-            sharedHealth = clampedHealth;
-            return;
-        }
-
-        RunManager runManager = RunManager.getInstance();
-        if (runManager == null || !runManager.isRunActive()) {
-            sharedHealth = clampedHealth;
-            return;
-        }
-        sharedHealth = clampedHealth;
-
-        isSyncing = true;
+        syncGuard.enter();
         try {
-            for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                ServerWorld playerWorld = getPlayerWorld(player);
-                if (playerWorld == null)
-                    continue;
-
-                if (runManager.isTemporaryWorld(playerWorld.getRegistryKey())) {
-                    // Skip spectators and creative mode players for health sync
-                    if (player.isSpectator() || player.isCreative()) {
+            List<SoulLinkGroup> groups = SoulLinkParticipants.groups();
+            for (int g = 0; g < groups.size(); g++) {
+                SoulLinkGroup group = groups.get(g);
+                synchronized (group.ledger) {
+                    Vitals before = group.vitals();
+                    group.setVitals(before.withHealthUnits(healthUnits));
+                    StatJournal.recordGroup(StatJournal.Kind.SET_HEALTH, group,
+                            healthUnits - before.healthUnits(), healthUnits);
+                }
+
+                ServerPlayerEntity[] members = group.members();
+                int memberCount = group.count();
+                for (int i = 0; i < memberCount; i++) {
+                    ServerPlayerEntity player = members[i];
+                    // Skip creative mode players for health sync
+                    if (player.isCreative()) {
                         continue;
                     }
-                    player.setHealth(sharedHealth);
+                    writeHealth(player, clampedHealth);
                 }
             }
         } finally {
-            isSyncing = false;
+            syncGuard.exit();
         }
     }
 }
@@ -0,0 +1,169 @@
+package net.zenzty.soullink.server.health;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+/**
+ * One independently linked pool of players. Owns its shared vitals, the fixed-point accumulators
+ * used for normalization, the tick ledger and its member list, so a server can host several linked
+ * teams at once. Groups are created and looked up through SoulLinkParticipants.
+ *
+ * Stat hooks may run on several world threads at once (parallel world ticking), so the ledger,
+ * the accumulators and the vitals are only written while holding the ledger's monitor. Vitals are
+ * an immutable snapshot that can be read without the lock. Membership is changed on the server
+ * thread only.
+ */
+public final class SoulLinkGroup {
+
+    // Group key: scoreboard team name with team groups enabled, otherwise (or for players without
+    // a team) DEFAULT_ID
+    public static final String DEFAULT_ID = "";
+
+    private final String id;
+
+    // Position in SoulLinkParticipants.groups(), stable for the group's lifetime
+    private final int index;
+
+    // Master stat values, replaced as a whole while holding the ledger lock
+    private volatile Vitals vitals;
+
+    // Exact accumulators for regen, drain and periodic damage (divided by member count)
+    final NormalizedAccumulator regen = new NormalizedAccumulator();
+    final NormalizedAccumulator regenerationHeal = new NormalizedAccumulator();
+    final NormalizedAccumulator hungerDrain = new NormalizedAccumulator();
+    final NormalizedAccumulator saturationDrain = new NormalizedAccumulator();
+    final NormalizedAccumulator periodicDamage = new NormalizedAccumulator();
+
+    // Central hunger simulation state (see HungerSimulation), exhaustion in Vitals.UNITS
+    final NormalizedAccumulator exhaustionPool = new NormalizedAccumulator();
+    int exhaustion = 0;
+    int foodTickTimer = 0;
+
+    // Deltas recorded this tick, applied by SharedStatsHandler.flushTick(). Its monitor guards
+    // the ledger, the accumulators, the hunger simulation state and writes to the vitals.
+    final StatLedger ledger = new StatLedger();
+
+    // Member slots (see members()) that jumped naturally this tick
+    final BitSet jumpers = new BitSet();
+
+    private ServerPlayerEntity[] members = new ServerPlayerEntity[8];
+    private int size = 0;
+
+    // Set when the group's shared health ran out; it takes no members for the rest of the run
+    private boolean eliminated = false;
+
+    SoulLinkGroup(String id, int index, float maxHealth) {
+        this.id = id;
+        this.index = index;
+        this.vitals = Vitals.initial(maxHealth);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Small integer id of this group, usable in packed primitive keys.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public boolean isEliminated() {
+        return eliminated;
+    }
+
+    /**
+     * Drops all members and locks the group for the rest of the run.
+     */
+    void eliminate() {
+        clearMembers();
+        synchronized (ledger) {
+            ledger.clear();
+        }
+        eliminated = true;
+    }
+
+    /**
+     * Returns the current shared stats. Read once and use the snapshot rather than calling this
+     * per stat.
+     */
+    public Vitals vitals() {
+        return vitals;
+    }
+
+    /**
+     * Replaces the shared stats. Callers hold the ledger lock, so a read-modify-write of the
+     * vitals cannot interleave with another.
+     */
+    void setVitals(Vitals updated) {
+        vitals = updated;
+    }
+
+    /**
+     * Number of members; valid entries of {@link #members()} are {@code [0, count())}.
+     */
+    public int count() {
+        return size;
+    }
+
+    /**
+     * Returns the backing member array. Do not modify or keep a reference across ticks.
+     */
+    public ServerPlayerEntity[] members() {
+        return members;
+    }
+
+    boolean contains(ServerPlayerEntity player) {
+        ParticipantHolder holder = (ParticipantHolder) player;
+        int index = holder.soullink$getParticipantIndex();
+        return holder.soullink$getGroup() == this && index >= 0 && index < size
+                && members[index] == player;
+    }
+
+    void add(ServerPlayerEntity player) {
+        if (contains(player))
+            return;
+
+        if (size == members.length) {
+            members = Arrays.copyOf(members, size * 2);
+        }
+        members[size] = player;
+        ParticipantHolder holder = (ParticipantHolder) player;
+        holder.soullink$setParticipantIndex(size);
+        holder.soullink$setGroup(this);
+        size++;
+    }
+
+    void remove(ServerPlayerEntity player) {
+        if (!contains(player))
+            return;
+
+        ParticipantHolder holder = (ParticipantHolder) player;
+        int index = holder.soullink$getParticipantIndex();
+
+        // Swap the last member into the freed slot, carrying its per-slot state along
+        int last = size - 1;
+        ServerPlayerEntity moved = members[last];
+        members[index] = moved;
+        ((ParticipantHolder) moved).soullink$setParticipantIndex(index);
+        members[last] = null;
+        jumpers.set(index, jumpers.get(last));
+        jumpers.clear(last);
+        size = last;
+        holder.soullink$setParticipantIndex(-1);
+        holder.soullink$setGroup(null);
+    }
+
+    void clearMembers() {
+        for (int i = 0; i < size; i++) {
+            ParticipantHolder holder = (ParticipantHolder) members[i];
+            holder.soullink$setParticipantIndex(-1);
+            holder.soullink$setGroup(null);
+            members[i] = null;
+        }
+        size = 0;
+        jumpers.clear();
+    }
+}
@@ -0,0 +1,241 @@
+package net.zenzty.soullink.server.health;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.minecraft.scoreboard.Team;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.zenzty.soullink.SoulLink;
+import net.zenzty.soullink.server.manhunt.ManhuntManager;
+import net.zenzty.soullink.server.run.RunManager;
+import net.zenzty.soullink.server.settings.Settings;
+
+/**
+ * Incrementally maintained registry of players taking part in Soul Link, split into independent
+ * {@link SoulLinkGroup}s. All players share the default group unless team groups are enabled, in
+ * which case groups are keyed by scoreboard team (players without a team share the default group).
+ * Updated on join, disconnect, dimension change, gamemode change and Manhunt role change, so the
+ * shared stat handlers can fan out over a ready-made array instead of rescanning the player list.
+ *
+ * All access happens on the server thread.
+ */
+public final class SoulLinkParticipants {
+
+    private static final Map<String, SoulLinkGroup> groupsById = new HashMap<>();
+    private static final List<SoulLinkGroup> groups = new ArrayList<>();
+
+    // Group key of every player linked during this run. Kept for the whole run, so leaving or
+    // switching teams never moves a player into a group with other vitals.
+    private static final Map<UUID, String> lockedKeys = new HashMap<>();
+
+    // Set when membership may be stale (e.g. Manhunt roles changed), rebuilt on next access
+    private static boolean dirty = false;
+
+    private SoulLinkParticipants() {}
+
+    /**
+     * Returns whether a player should currently share stats. The run must be active, the player
+     * must be in a temporary world and not spectating, and in Manhunt mode must be a Runner.
+     */
+    private static boolean isEligible(ServerPlayerEntity player, RunManager runManager) {
+        if (player.isRemoved() || player.isSpectator())
+            return false;
+        if (!runManager.isRunActive())
+            return false;
+        ServerWorld world = player.getEntityWorld();
+        if (world == null || !runManager.isTemporaryWorld(world.getRegistryKey()))
+            return false;
+        if (!Settings.getInstance().isManhuntMode())
+            return true;
+        return ManhuntManager.getInstance().isSpeedrunner(player);
+    }
+
+    /**
+     * Returns the group key for a player, locked the first time they are linked during the run:
+     * their scoreboard team name with team groups enabled, otherwise the default group.
+     */
+    private static String groupKey(ServerPlayerEntity player) {
+        return lockedKeys.computeIfAbsent(player.getUuid(), id -> {
+            if (!Settings.getInstance().isTeamGroups())
+                return SoulLinkGroup.DEFAULT_ID;
+            Team team = player.getScoreboardTeam();
+            return team != null ? team.getName() : SoulLinkGroup.DEFAULT_ID;
+        });
+    }
+
+    /**
+     * Returns the group a player would belong to, creating it with fresh vitals if needed. Does
+     * not add the player as a member.
+     */
+    public static SoulLinkGroup groupFor(ServerPlayerEntity player) {
+        SoulLinkGroup current = ((ParticipantHolder) player).soullink$getGroup();
+        if (current != null)
+            return current;
+
+        String key = groupKey(player);
+        SoulLinkGroup group = groupsById.get(key);
+        if (group == null) {
+            group = new SoulLinkGroup(key, groups.size(), SharedStatsHandler.getMaxHealth());
+            groupsById.put(key, group);
+            groups.add(group);
+            SoulLink.LOGGER.debug("Created Soul Link group '{}'", key);
+        }
+        return group;
+    }
+
+    /**
+     * Re-evaluates a single player's membership. Called from join, world change, gamemode change
+     * and respawn hooks.
+     */
+    public static void refresh(ServerPlayerEntity player) {
+        if (player == null)
+            return;
+
+        RunManager runManager;
+        try {
+            runManager = RunManager.getInstance();
+        } catch (IllegalStateException e) {
+            return;
+        }
+
+        if (!isEligible(player, runManager)) {
+            remove(player);
+            return;
+        }
+
+        SoulLinkGroup current = ((ParticipantHolder) player).soullink$getGroup();
+        if (current != null && current.getId().equals(groupKey(player)))
+            return;
+
+        remove(player);
+        SoulLinkGroup group = groupFor(player);
+        if (!group.isEliminated()) {
+            group.add(player);
+        }
+    }
+
+    /**
+     * Removes a player from their group (disconnect, respawn replacement, loss of eligibility).
+     */
+    public static void remove(ServerPlayerEntity player) {
+        SoulLinkGroup group = ((ParticipantHolder) player).soullink$getGroup();
+        if (group != null) {
+            group.remove(player);
+        }
+    }
+
+    /**
+     * Rebuilds all memberships from the full player list. Existing groups keep their vitals.
+     * Called on run state transitions and after membership was marked dirty.
+     */
+    public static void rebuild(MinecraftServer server) {
+        for (SoulLinkGroup group : groups) {
+            group.clearMembers();
+        }
+        dirty = false;
+        if (server == null)
+            return;
+
+        RunManager runManager;
+        try {
+            runManager = RunManager.getInstance();
+        } catch (IllegalStateException e) {
+            return;
+        }
+
+        int total = 0;
+        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+            if (!isEligible(player, runManager))
+                continue;
+            SoulLinkGroup group = groupFor(player);
+            if (!group.isEliminated()) {
+                group.add(player);
+                total++;
+            }
+        }
+
+        SoulLink.LOGGER.debug("Soul Link participants rebuilt: {} players in {} groups", total,
+                groups.size());
+    }
+
+    /**
+     * Drops all groups and their vitals. Called when a run starts or ends.
+     */
+    public static void clear() {
+        for (SoulLinkGroup group : groups) {
+            group.clearMembers();
+        }
+        groups.clear();
+        groupsById.clear();
+        lockedKeys.clear();
+        dirty = false;
+    }
+
+    /**
+     * Eliminates a group whose shared health ran out. Its members are dropped and it takes no new
+     * ones for the rest of the run; its players stay locked to it.
+     */
+    public static void eliminate(SoulLinkGroup group) {
+        group.eliminate();
+        SoulLink.LOGGER.info("Soul Link group '{}' eliminated", group.getId());
+    }
+
+    /**
+     * Returns whether any group other than {@code group} still has members.
+     */
+    public static boolean hasOtherActiveGroup(SoulLinkGroup group) {
+        for (SoulLinkGroup other : groups()) {
+            if (other != group && !other.isEliminated() && other.count() > 0)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Marks membership as stale so it is rebuilt on next access. Used for changes that have no
+     * player reference at hand, such as Manhunt role changes.
+     */
+    public static void markDirty() {
+        dirty = true;
+    }
+
+    private static void ensureFresh() {
+        if (!dirty)
+            return;
+        RunManager runManager;
+        try {
+            runManager = RunManager.getInstance();
+        } catch (IllegalStateException e) {
+            dirty = false;
+            return;
+        }
+        rebuild(runManager.getServer());
+    }
+
+    /**
+     * Returns the group the player currently participates in, or null if not participating.
+     */
+    public static SoulLinkGroup getGroup(ServerPlayerEntity player) {
+        ensureFresh();
+        return ((ParticipantHolder) player).soullink$getGroup();
+    }
+
+    /**
+     * Returns whether the player currently participates in Soul Link.
+     */
+    public static boolean contains(ServerPlayerEntity player) {
+        return getGroup(player) != null;
+    }
+
+    /**
+     * Returns all groups of the current run. Do not modify.
+     */
+    public static List<SoulLinkGroup> groups() {
+        ensureFresh();
+        return groups;
+    }
+}
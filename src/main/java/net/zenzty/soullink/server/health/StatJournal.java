@@ -0,0 +1,331 @@
+package net.zenzty.soullink.server.health;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.entity.damage.DamageSource;
+import net.minecraft.entity.damage.DamageType;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.WorldSavePath;
+import net.zenzty.soullink.SoulLink;
+import net.zenzty.soullink.server.event.EventRegistry;
+import net.zenzty.soullink.server.settings.Settings;
+
+/**
+ * Fixed-size ring buffer of every shared stat mutation: tick, group, player, source kind, damage
+ * type (for hits), delta and resulting value. Entries are stored in preallocated primitive arrays;
+ * groups, players and damage types are stored as ids into a per-run name table that is filled
+ * (and the name built) when something is first recorded, so names stay correct however members
+ * are reordered or leave. The newest entries can be shown with {@code /runinfo journal}, and the
+ * whole buffer is written to the world save on game over.
+ *
+ * Recording may happen on several world threads at once, so all access to the buffer and the name
+ * table is synchronized on the class.
+ */
+public final class StatJournal {
+
+    /**
+     * Source of a journaled mutation.
+     */
+    public enum Kind {
+        HIT(true),
+        AREA_HIT(true), // value is the damage counted for the source key
+        PERIODIC_DAMAGE(true),
+        HEAL(true),
+        REGENERATION_EFFECT(true),
+        NATURAL_REGEN(true),
+        ABSORPTION(true),
+        FOOD_GAIN(false),
+        SATURATION_GAIN(true),
+        FOOD_DRAIN(false),
+        SATURATION_DRAIN(true),
+        STARVATION(true),
+        FLUSH_HEALTH(true),
+        FLUSH_FOOD(false),
+        FLUSH_SATURATION(true),
+        SET_HEALTH(true);
+
+        private static final Kind[] VALUES = values();
+
+        // Whether delta and value are in Vitals.UNITS (otherwise whole food levels)
+        final boolean fixedPoint;
+
+        Kind(boolean fixedPoint) {
+            this.fixedPoint = fixedPoint;
+        }
+    }
+
+    // Name id used for the player of group-wide entries and the damage type of non-hits
+    private static final short NONE = -1;
+
+    private static final int CAPACITY = 8192;
+    private static final String FILE_PREFIX = "soullink_journal_";
+    private static final String FILE_SUFFIX = ".log";
+    private static final DateTimeFormatter FILE_TIME =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    // Writes journal files off the server thread, one at a time
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "SoulLink-Journal-Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final int[] ticks = new int[CAPACITY];
+    private static final short[] groups = new short[CAPACITY];
+    private static final short[] players = new short[CAPACITY];
+    private static final short[] damageTypes = new short[CAPACITY];
+    private static final byte[] kinds = new byte[CAPACITY];
+    private static final int[] deltas = new int[CAPACITY];
+    private static final int[] values = new int[CAPACITY];
+
+    // Per-run name table: group objects, player UUIDs and damage type keys map to name ids
+    private static final Object2IntOpenHashMap<Object> nameIds = new Object2IntOpenHashMap<>();
+    private static final List<String> names = new ArrayList<>();
+
+    static {
+        nameIds.defaultReturnValue(NONE);
+    }
+
+    // Index of the next slot to write and number of valid entries
+    private static int head = 0;
+    private static int size = 0;
+
+    private static MinecraftServer server = null;
+
+    // File name of the last journal written, null if none yet; set on the server thread
+    private static String lastFile = null;
+
+    private StatJournal() {}
+
+    /**
+     * Binds the server whose tick counter stamps entries. Called on SERVER_STARTED.
+     */
+    public static void bind(MinecraftServer minecraftServer) {
+        server = minecraftServer;
+    }
+
+    /**
+     * Records a mutation caused by one player.
+     *
+     * @param delta Change applied (fixed-point units or food levels, see {@link Kind})
+     * @param value Resulting value: the pending ledger total of the player's group
+     */
+    static synchronized void record(Kind kind, SoulLinkGroup group, ServerPlayerEntity player,
+            int delta, int value) {
+        append(kind, groupName(group), playerName(player), NONE, delta, value);
+    }
+
+    /**
+     * Records damage taken by one player together with its damage type.
+     */
+    static synchronized void recordHit(Kind kind, SoulLinkGroup group, ServerPlayerEntity player,
+            DamageSource source, int delta, int value) {
+        append(kind, groupName(group), playerName(player), damageTypeName(source), delta, value);
+    }
+
+    /**
+     * Records a group-wide mutation (flush, admin change) with its resulting shared value.
+     */
+    static synchronized void recordGroup(Kind kind, SoulLinkGroup group, int delta, int value) {
+        append(kind, groupName(group), NONE, NONE, delta, value);
+    }
+
+    private static short groupName(SoulLinkGroup group) {
+        int id = nameIds.getInt(group);
+        if (id != NONE)
+            return (short) id;
+        return addName(group, group.getId().equals(SoulLinkGroup.DEFAULT_ID) ? "default"
+                : group.getId());
+    }
+
+    private static short playerName(ServerPlayerEntity player) {
+        UUID uuid = player.getUuid();
+        int id = nameIds.getInt(uuid);
+        return id != NONE ? (short) id : addName(uuid, player.getName().getString());
+    }
+
+    private static short damageTypeName(DamageSource source) {
+        RegistryEntry<DamageType> type = source.getTypeRegistryEntry();
+        int id = nameIds.getInt(type);
+        return id != NONE ? (short) id : addName(type, type.getIdAsString());
+    }
+
+    /**
+     * Adds the name for a key seen for the first time. Names are only built on this path, so
+     * recording a known group, player or damage type allocates nothing. NONE once the table is
+     * full.
+     */
+    private static short addName(Object key, String name) {
+        if (names.size() >= Short.MAX_VALUE)
+            return NONE;
+        int id = names.size();
+        names.add(name);
+        nameIds.put(key, id);
+        return (short) id;
+    }
+
+    private static void append(Kind kind, short group, short player, short damageType, int delta,
+            int value) {
+        ticks[head] = server != null ? server.getTicks() : 0;
+        groups[head] = group;
+        players[head] = player;
+        damageTypes[head] = damageType;
+        kinds[head] = (byte) kind.ordinal();
+        deltas[head] = delta;
+        values[head] = value;
+
+        head = (head + 1) % CAPACITY;
+        if (size < CAPACITY) {
+            size++;
+        }
+    }
+
+    /**
+     * Returns the file name of the last journal written to the world save, or null if none was
+     * written since the server started.
+     */
+    public static String getLastFile() {
+        return lastFile;
+    }
+
+    /**
+     * Drops all entries. Called when a new run starts.
+     */
+    public static synchronized void clear() {
+        head = 0;
+        size = 0;
+        nameIds.clear();
+        names.clear();
+    }
+
+    /**
+     * Returns the newest entries formatted one per line, oldest first.
+     */
+    public static synchronized List<String> tail(int count) {
+        int n = Math.min(count, size);
+        List<String> lines = new ArrayList<>(n);
+        int start = Math.floorMod(head - n, CAPACITY);
+        for (int i = 0; i < n; i++) {
+            int slot = (start + i) % CAPACITY;
+            lines.add(format(names, ticks[slot], groups[slot], players[slot], damageTypes[slot],
+                    kinds[slot], deltas[slot], values[slot]));
+        }
+        return lines;
+    }
+
+    /**
+     * Copies the buffer and the name table, then writes them to a new file in the world save on
+     * the journal writer thread, deleting the oldest journal files beyond
+     * Settings.getJournalFileLimit(). Once written, the file name is handed back to the server
+     * thread for getLastFile(). Called when a run ends in death, not on manual stops.
+     */
+    public static synchronized void writeAsync(MinecraftServer minecraftServer) {
+        int limit = Settings.getInstance().getJournalFileLimit();
+        if (size == 0 || limit == 0)
+            return;
+
+        // Snapshot in chronological order while holding the lock
+        int n = size;
+        int start = Math.floorMod(head - n, CAPACITY);
+        int[] snapTicks = new int[n];
+        short[] snapGroups = new short[n];
+        short[] snapPlayers = new short[n];
+        short[] snapDamageTypes = new short[n];
+        byte[] snapKinds = new byte[n];
+        int[] snapDeltas = new int[n];
+        int[] snapValues = new int[n];
+        for (int i = 0; i < n; i++) {
+            int slot = (start + i) % CAPACITY;
+            snapTicks[i] = ticks[slot];
+            snapGroups[i] = groups[slot];
+            snapPlayers[i] = players[slot];
+            snapDamageTypes[i] = damageTypes[slot];
+            snapKinds[i] = kinds[slot];
+            snapDeltas[i] = deltas[slot];
+            snapValues[i] = values[slot];
+        }
+        List<String> snapNames = List.copyOf(names);
+
+        Path dir = minecraftServer.getSavePath(WorldSavePath.ROOT);
+        Path path = dir.resolve(FILE_PREFIX + LocalDateTime.now().format(FILE_TIME) + FILE_SUFFIX);
+
+        WRITER.execute(() -> {
+            try (Writer out = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                for (int i = 0; i < n; i++) {
+                    out.write(format(snapNames, snapTicks[i], snapGroups[i], snapPlayers[i],
+                            snapDamageTypes[i], snapKinds[i], snapDeltas[i], snapValues[i]));
+                    out.write('\n');
+                }
+                SoulLink.LOGGER.info("Wrote {} shared stat journal entries to {}", n, path);
+                String fileName = path.getFileName().toString();
+                EventRegistry.submitDelayed(0, () -> lastFile = fileName);
+            } catch (IOException e) {
+                SoulLink.LOGGER.warn("Could not write stat journal {}: {}", path, e.getMessage());
+            }
+            deleteOldFiles(dir, limit);
+        });
+    }
+
+    /**
+     * Deletes the oldest journal files so at most {@code limit} remain. File names start with a
+     * sortable timestamp, so name order is age order.
+     */
+    private static void deleteOldFiles(Path dir, int limit) {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream =
+                Files.newDirectoryStream(dir, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            stream.forEach(files::add);
+        } catch (IOException e) {
+            SoulLink.LOGGER.warn("Could not list stat journals in {}: {}", dir, e.getMessage());
+            return;
+        }
+
+        files.sort(null);
+        for (int i = 0; i < files.size() - limit; i++) {
+            try {
+                Files.deleteIfExists(files.get(i));
+            } catch (IOException e) {
+                SoulLink.LOGGER.warn("Could not delete stat journal {}: {}", files.get(i),
+                        e.getMessage());
+            }
+        }
+    }
+
+    private static String format(List<String> names, int tick, short group, short player,
+            short damageType, byte kindOrdinal, int delta, int value) {
+        Kind kind = Kind.VALUES[kindOrdinal];
+        StringBuilder sb = new StringBuilder();
+        sb.append("t=").append(tick).append(" [").append(name(names, group)).append("] ")
+                .append(player == NONE ? "group" : name(names, player)).append(' ')
+                .append(kind.name());
+        if (damageType != NONE) {
+            sb.append(" (").append(name(names, damageType)).append(')');
+        }
+        return sb.append(' ').append(formatValue(kind, delta)).append(" -> ")
+                .append(formatValue(kind, value)).toString();
+    }
+
+    private static String name(List<String> names, short id) {
+        return id >= 0 && id < names.size() ? names.get(id) : "?";
+    }
+
+    private static String formatValue(Kind kind, int value) {
+        if (!kind.fixedPoint)
+            return String.valueOf(value);
+        return String.valueOf(Vitals.fromUnits(value));
+    }
+}
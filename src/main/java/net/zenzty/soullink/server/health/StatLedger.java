@@ -0,0 +1,79 @@
+package net.zenzty.soullink.server.health;
+
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+/**
+ * Tick-local record of shared stat changes. Damage, healing and hunger events add their deltas
+ * here instead of writing to every player, and SharedStatsHandler.flushTick() applies the sum once
+ * at the end of the server tick.
+ *
+ * Health, saturation and absorption are in fixed-point {@link Vitals#UNITS}, so sums are exact.
+ */
+final class StatLedger {
+
+    // Net health change this tick (negative = damage)
+    int healthDelta = 0;
+
+    // Direct hit damage this tick, replayed as visual damage on players who were not hit
+    int hitDamage = 0;
+
+    int foodDelta = 0;
+    int saturationDelta = 0;
+
+    // Last absorption value reported this tick, Vitals.NO_ABSORPTION if unchanged
+    int absorption = Vitals.NO_ABSORPTION;
+
+    // Whether anything was recorded since the last flush
+    boolean dirty = false;
+
+    // Players who took direct hit damage this tick (they already saw the hit client-side)
+    final ReferenceOpenHashSet<ServerPlayerEntity> damageSources = new ReferenceOpenHashSet<>();
+
+    // Hits with a source entity or position, keyed by source and damage type. One explosion,
+    // sweep or cloud hitting several members counts once, with its largest damage.
+    final Long2IntOpenHashMap areaHits = new Long2IntOpenHashMap();
+
+    /**
+     * Records a hit that may also land on other members this tick, keeping the largest damage
+     * per key.
+     *
+     * @return The damage currently counted for this key
+     */
+    int recordAreaHit(long key, int damage) {
+        int counted = areaHits.get(key);
+        if (damage > counted) {
+            areaHits.put(key, damage);
+            return damage;
+        }
+        return counted;
+    }
+
+    /**
+     * Folds the arbitrated area hits into the health delta. Called once at flush.
+     */
+    void resolveAreaHits() {
+        if (areaHits.isEmpty())
+            return;
+        int total = 0;
+        for (IntIterator it = areaHits.values().iterator(); it.hasNext();) {
+            total += it.nextInt();
+        }
+        healthDelta -= total;
+        hitDamage += total;
+        areaHits.clear();
+    }
+
+    void clear() {
+        healthDelta = 0;
+        hitDamage = 0;
+        foodDelta = 0;
+        saturationDelta = 0;
+        absorption = Vitals.NO_ABSORPTION;
+        dirty = false;
+        damageSources.clear();
+        areaHits.clear();
+    }
+}
@@ -0,0 +1,30 @@
+package net.zenzty.soullink.server.health;
+
+/**
+ * Reentrancy guard for the shared stat handlers. While a handler writes synced values to players,
+ * the hooks those writes trigger must not be treated as new player actions. The guard is tracked
+ * per thread, so writes on one thread never suppress events on another (e.g. with parallel world
+ * ticking).
+ */
+public final class SyncGuard {
+
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+    /**
+     * Returns whether the current thread is inside a guarded section.
+     */
+    public boolean isActive() {
+        return depth.get()[0] > 0;
+    }
+
+    /**
+     * Enters a guarded section. Must be paired with {@link #exit()} in a finally block.
+     */
+    public void enter() {
+        depth.get()[0]++;
+    }
+
+    public void exit() {
+        depth.get()[0]--;
+    }
+}
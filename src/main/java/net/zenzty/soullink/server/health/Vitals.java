@@ -0,0 +1,73 @@
+package net.zenzty.soullink.server.health;
+
+import net.minecraft.util.math.MathHelper;
+
+/**
+ * Immutable snapshot of a Soul Link group's shared stats. Groups swap whole snapshots with
+ * compare-and-set, so readers always see health, hunger, saturation and absorption from the same
+ * update.
+ *
+ * Health, saturation and absorption are stored as fixed-point integers in thousandths of a point
+ * ({@link #UNITS}), so all shared stat arithmetic is exact and deterministic. The float accessors
+ * convert for Minecraft's APIs.
+ */
+public record Vitals(int healthUnits, int hunger, int saturationUnits, int absorptionUnits) {
+
+    // Fixed-point units per health/saturation point
+    public static final int UNITS = 1000;
+
+    // Ledger value meaning "absorption unchanged"
+    public static final int NO_ABSORPTION = Integer.MIN_VALUE;
+
+    private static final int MAX_HUNGER = 20;
+    private static final int MAX_SATURATION_UNITS = 20 * UNITS;
+    private static final int MAX_ABSORPTION_UNITS = 20 * UNITS;
+
+    /**
+     * Stats at the start of a run.
+     */
+    public static Vitals initial(float maxHealth) {
+        return new Vitals(toUnits(maxHealth), MAX_HUNGER, toUnits(5.0f), 0);
+    }
+
+    /**
+     * Converts a Minecraft stat value to fixed-point units.
+     */
+    public static int toUnits(float value) {
+        return Math.round(value * UNITS);
+    }
+
+    public static float fromUnits(int units) {
+        return (float) units / UNITS;
+    }
+
+    public float health() {
+        return fromUnits(healthUnits);
+    }
+
+    public float saturation() {
+        return fromUnits(saturationUnits);
+    }
+
+    public float absorption() {
+        return fromUnits(absorptionUnits);
+    }
+
+    /**
+     * Returns a copy with the given deltas applied and every stat clamped to its valid range.
+     *
+     * @param absorptionUnits New absorption, or {@link #NO_ABSORPTION} to keep the current one
+     */
+    public Vitals apply(int healthDelta, int foodDelta, int saturationDelta, int absorptionUnits,
+            int maxHealthUnits) {
+        return new Vitals(MathHelper.clamp(healthUnits + healthDelta, 0, maxHealthUnits),
+                MathHelper.clamp(hunger + foodDelta, 0, MAX_HUNGER),
+                MathHelper.clamp(saturationUnits + saturationDelta, 0, MAX_SATURATION_UNITS),
+                absorptionUnits == NO_ABSORPTION ? this.absorptionUnits
+                        : MathHelper.clamp(absorptionUnits, 0, MAX_ABSORPTION_UNITS));
+    }
+
+    public Vitals withHealthUnits(int healthUnits) {
+        return new Vitals(healthUnits, hunger, saturationUnits, absorptionUnits);
+    }
+}
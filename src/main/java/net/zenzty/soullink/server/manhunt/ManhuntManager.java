@@ -10,6 +10,7 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import net.zenzty.soullink.SoulLink;
+import net.zenzty.soullink.server.health.SoulLinkParticipants;
 
 /**
  * Manages player roles in Manhunt mode. Runners share health/stats (Soul Link mechanic). Hunters
@@ -42,6 +43,7 @@ public class ManhuntManager {
     public void resetRoles() {
         runners.clear();
         hunters.clear();
+        SoulLinkParticipants.markDirty();
         SoulLink.LOGGER.info("Manhunt roles reset");
     }
 
@@ -51,6 +53,7 @@ public class ManhuntManager {
     public void setRunner(UUID playerId) {
         hunters.remove(playerId);
         runners.add(playerId);
+        SoulLinkParticipants.markDirty();
         SoulLink.LOGGER.debug("Player {} set as Runner", playerId);
     }
 
@@ -60,6 +63,7 @@ public class ManhuntManager {
     public void setHunter(UUID playerId) {
         runners.remove(playerId);
         hunters.add(playerId);
+        SoulLinkParticipants.markDirty();
         SoulLink.LOGGER.debug("Player {} set as Hunter", playerId);
     }
 
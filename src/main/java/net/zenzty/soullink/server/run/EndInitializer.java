@@ -0,0 +1,99 @@
+package net.zenzty.soullink.server.run;
+
+import net.minecraft.entity.boss.dragon.EnderDragonFight;
+import net.minecraft.server.world.ServerWorld;
+import net.zenzty.soullink.SoulLink;
+import net.zenzty.soullink.mixin.server.ServerWorldAccessor;
+import net.zenzty.soullink.server.event.TickBudgetExecutor;
+
+/**
+ * Prepares a temporary End for its first visit: generates the central island chunks and injects an
+ * EnderDragonFight, which Fantasy temporary worlds don't get automatically. The chunks are
+ * normally generated ahead of time by a budgeted prewarm job, so the first portal entry only has to
+ * create the fight.
+ */
+public final class EndInitializer {
+
+    // Central chunks loaded around the End island (-2..2 on both axes)
+    private static final int RADIUS = 2;
+    private static final int SIDE = RADIUS * 2 + 1;
+
+    private EndInitializer() {}
+
+    /**
+     * Returns a job that generates one central chunk per step and then initializes the End. Stops
+     * early if the run ends, the End changes, or the End was initialized in the meantime.
+     */
+    public static TickBudgetExecutor.Job prewarm(RunManager runManager, ServerWorld endWorld) {
+        int[] next = {0};
+        return () -> {
+            if (!runManager.isRunActive() || runManager.isEndInitialized()
+                    || runManager.getTemporaryEnd() != endWorld)
+                return true;
+
+            if (next[0] < SIDE * SIDE) {
+                int i = next[0]++;
+                endWorld.getChunk(i % SIDE - RADIUS, i / SIDE - RADIUS);
+                return false;
+            }
+
+            if (initialize(endWorld)) {
+                runManager.setEndInitialized(true);
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Initializes the End dimension by creating and injecting an EnderDragonFight. Chunks the
+     * prewarm job already generated are only looked up.
+     */
+    public static boolean initialize(ServerWorld endWorld) {
+        SoulLink.LOGGER.info("Initializing temporary End dimension...");
+
+        // Force-load the central chunks to ensure End island and structures are generated
+        // Load a smaller area to reduce server spike
+        for (int x = -RADIUS; x <= RADIUS; x++) {
+            for (int z = -RADIUS; z <= RADIUS; z++) {
+                endWorld.getChunk(x, z);
+            }
+        }
+        SoulLink.LOGGER.info("Loaded central End chunks");
+
+        // Check if EnderDragonFight already exists
+        EnderDragonFight existingFight = endWorld.getEnderDragonFight();
+
+        if (existingFight != null) {
+            SoulLink.LOGGER.info("EnderDragonFight already exists");
+            return true;
+        }
+
+        // Fantasy temporary worlds don't get EnderDragonFight automatically
+        // We need to create one and inject it using our accessor
+        SoulLink.LOGGER.info("Creating EnderDragonFight for temporary End world...");
+
+        try {
+            // Create a fresh EnderDragonFight with default state (dragon not yet killed)
+            EnderDragonFight dragonFight = new EnderDragonFight(endWorld, endWorld.getSeed(),
+                    EnderDragonFight.Data.DEFAULT);
+
+            // Inject it into the world using our accessor
+            ((ServerWorldAccessor) endWorld).setEnderDragonFight(dragonFight);
+
+            SoulLink.LOGGER.info("EnderDragonFight created and injected successfully");
+
+            // Verify it was set
+            EnderDragonFight verifyFight = endWorld.getEnderDragonFight();
+            if (verifyFight != null) {
+                SoulLink.LOGGER.info("Verified: EnderDragonFight is now active");
+                SoulLink.LOGGER.info("Temporary End initialization complete");
+                return true;
+            }
+        } catch (Exception e) {
+            SoulLink.LOGGER.error("Failed to create EnderDragonFight", e);
+        }
+
+        SoulLink.LOGGER.warn("Temporary End initialization failed");
+        return false;
+    }
+}
@@ -1,5 +1,7 @@
 package net.zenzty.soullink.server.run;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import net.minecraft.advancement.AdvancementEntry;
 import net.minecraft.advancement.AdvancementProgress;
@@ -14,6 +16,7 @@ import net.minecraft.sound.SoundEvents;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.GameMode;
 import net.zenzty.soullink.SoulLink;
+import net.zenzty.soullink.server.event.TickBudgetExecutor;
 import net.zenzty.soullink.server.health.SharedStatsHandler;
 import net.zenzty.soullink.server.settings.Settings;
 
@@ -122,12 +125,12 @@ public class PlayerTeleportService {
         if (maxHealthAttr != null) {
             if (settings.isHalfHeartMode()) {
                 maxHealthAttr.setBaseValue(1.0);
-                player.setHealth(1.0f);
+                SharedStatsHandler.writeHealth(player, 1.0f);
                 SoulLink.LOGGER.info("Half Heart Mode enabled for {}",
                         player.getName().getString());
             } else {
                 maxHealthAttr.setBaseValue(20.0);
-                player.setHealth(player.getMaxHealth());
+                SharedStatsHandler.writeHealth(player, player.getMaxHealth());
             }
         }
 
@@ -142,9 +145,6 @@ public class PlayerTeleportService {
         player.setFireTicks(0);
         player.setFrozenTicks(0);
 
-        // Reset all advancements
-        resetPlayerAdvancements(player);
-
         // Set to survival mode
         player.changeGameMode(GameMode.SURVIVAL);
 
@@ -152,19 +152,62 @@ public class PlayerTeleportService {
     }
 
     /**
-     * Resets all advancements for a player.
+     * Criterion a player had obtained before the reset.
+     */
+    private record ObtainedCriterion(AdvancementEntry advancement, String criterion) {
+    }
+
+    /**
+     * Returns a budgeted job that resets the player's advancements and then teleports them to
+     * spawn (see teleportToSpawn). The reset finishes before the teleport, so the player cannot
+     * earn anything in the run that the reset would take away again.
+     */
+    public TickBudgetExecutor.Job resetAndTeleport(ServerPlayerEntity player, ServerWorld world,
+            BlockPos spawnPos, TimerService timerService, boolean syncToShared) {
+        TickBudgetExecutor.Job advancementReset = resetPlayerAdvancements(player);
+        return () -> {
+            if (player.isDisconnected())
+                return true;
+            if (!advancementReset.step())
+                return false;
+            teleportToSpawn(player, world, spawnPos, timerService, syncToShared);
+            return true;
+        };
+    }
+
+    /**
+     * Returns a job that resets all advancements for a player. The obtained criteria are collected
+     * now, and revoking them (which updates and syncs the tracker each time) takes one criterion
+     * per step.
      */
-    private void resetPlayerAdvancements(ServerPlayerEntity player) {
+    private TickBudgetExecutor.Job resetPlayerAdvancements(ServerPlayerEntity player) {
         PlayerAdvancementTracker tracker = player.getAdvancementTracker();
 
+        List<ObtainedCriterion> obtained = new ArrayList<>();
         for (AdvancementEntry advancement : server.getAdvancementLoader().getAdvancements()) {
             AdvancementProgress progress = tracker.getProgress(advancement);
 
             for (String criterion : progress.getObtainedCriteria()) {
-                tracker.revokeCriterion(advancement, criterion);
+                obtained.add(new ObtainedCriterion(advancement, criterion));
             }
         }
 
-        SoulLink.LOGGER.info("Reset advancements for player {}", player.getName().getString());
+        if (obtained.isEmpty())
+            return () -> true;
+
+        int[] next = {0};
+        return () -> {
+            // Tracker is saved and dropped on disconnect
+            if (player.isDisconnected())
+                return true;
+
+            ObtainedCriterion entry = obtained.get(next[0]++);
+            tracker.revokeCriterion(entry.advancement(), entry.criterion());
+
+            if (next[0] < obtained.size())
+                return false;
+            SoulLink.LOGGER.info("Reset advancements for player {}", player.getName().getString());
+            return true;
+        };
     }
 }
@@ -1,6 +1,7 @@
 package net.zenzty.soullink.server.run;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -32,7 +33,11 @@ import net.zenzty.soullink.mixin.server.EnderDragonFightAccessor;
 import net.zenzty.soullink.mixin.server.RaidAccessor;
 import net.zenzty.soullink.mixin.server.RaidManagerAccessor;
 import net.zenzty.soullink.server.event.EventRegistry;
+import net.zenzty.soullink.server.event.TickBudgetExecutor;
 import net.zenzty.soullink.server.health.SharedStatsHandler;
+import net.zenzty.soullink.server.health.SoulLinkGroup;
+import net.zenzty.soullink.server.health.SoulLinkParticipants;
+import net.zenzty.soullink.server.health.StatJournal;
 import net.zenzty.soullink.server.manhunt.CompassTrackingHandler;
 import net.zenzty.soullink.server.manhunt.ManhuntManager;
 import net.zenzty.soullink.server.settings.Settings;
@@ -51,6 +56,7 @@ public class RunManager {
     private final TimerService timerService;
     private final SpawnFinder spawnFinder;
     private final PlayerTeleportService teleportService;
+    private final WarmWorldPool warmWorldPool;
 
     // Game state
     private volatile RunState gameState = RunState.IDLE;
@@ -107,6 +113,8 @@ public class RunManager {
         this.timerService = new TimerService();
         this.spawnFinder = new SpawnFinder();
         this.teleportService = new PlayerTeleportService(server);
+        this.warmWorldPool = new WarmWorldPool(worldService,
+                () -> gameState == RunState.IDLE || gameState == RunState.GAMEOVER);
     }
 
     public static synchronized void init(MinecraftServer server) {
@@ -131,6 +139,8 @@ public class RunManager {
             CompassTrackingHandler.reset();
             currentInstance.worldService.deleteOldWorlds();
             currentInstance.deleteWorlds(true);
+            currentInstance.warmWorldPool.clear();
+            currentInstance.worldService.flushTeardown();
             instance = null;
         }
     }
@@ -156,6 +166,8 @@ public class RunManager {
         SoulLink.LOGGER.info("Starting new run...");
 
         EventRegistry.clearDelayedTasks();
+        TickBudgetExecutor.clear();
+        warmWorldPool.onJobsCleared();
 
         // Apply pending settings first so Manhunt and all Chaos options are correct for this run
         Settings.getInstance().applyPendingSettings();
@@ -169,14 +181,22 @@ public class RunManager {
         clearEnderDragonBossbar();
         clearRaidBossbars();
 
-        // Broadcast starting message
-        server.getPlayerManager().broadcast(formatMessage("Generating new world..."), false);
-
         // Save old worlds for later deletion
         worldService.saveCurrentWorldsAsOld();
 
-        // Create new temporary worlds
-        long seed = worldService.createTemporaryWorlds();
+        // Take a pre-generated world if one is ready, otherwise create new temporary worlds
+        WarmWorldPool.Entry warm = warmWorldPool.take(Settings.getInstance().getDifficulty());
+        long seed;
+        if (warm != null) {
+            server.getPlayerManager().broadcast(formatMessage("Loading world..."), false);
+            worldService.use(warm.worlds());
+            warmWorldPool.release(warm);
+            worldService.getOverworld().setTimeOfDay(0);
+            seed = worldService.getCurrentSeed();
+        } else {
+            server.getPlayerManager().broadcast(formatMessage("Generating new world..."), false);
+            seed = worldService.createTemporaryWorlds();
+        }
 
         // Reset shared stats
         SharedStatsHandler.reset();
@@ -187,9 +207,14 @@ public class RunManager {
         // Reset timer
         timerService.reset();
 
-        // Reset spawn search and start generating
+        // Reset spawn search and start generating (a pooled world's spawn is already known, so
+        // the search job finishes on its first step)
         spawnFinder.reset();
+        if (warm != null) {
+            spawnFinder.useKnownSpawn(warm.spawnPos());
+        }
         gameState = RunState.GENERATING_WORLD;
+        TickBudgetExecutor.submit(this::searchSpawnStep);
 
         // Put all players in spectator mode
         for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
@@ -203,17 +228,14 @@ public class RunManager {
      * Called every server tick to update state.
      */
     public void tick() {
+        // Delete discarded worlds one dimension at a time
+        worldService.tickTeardown();
+
         // Handle incremental world generation
         if (gameState == RunState.GENERATING_WORLD) {
-            ServerWorld overworld = worldService.getOverworld();
-            if (overworld == null) {
-                SoulLink.LOGGER.error("No overworld handle during generation!");
-                gameState = RunState.IDLE;
-                return;
-            }
-
-            if (spawnFinder.processStep(overworld, server)) {
-                transitionToRunning();
+            // The search itself runs as a budgeted job, see searchSpawnStep()
+            if (server.getTicks() % 10 == 0) {
+                spawnFinder.sendProgress(server);
             }
             return;
         }
@@ -246,7 +268,32 @@ public class RunManager {
     }
 
     /**
-     * Transitions from GENERATING_WORLD to RUNNING.
+     * Checks one spawn candidate. Runs on the TickBudgetExecutor while generating, so the search
+     * takes as many ticks as the tick budget requires.
+     *
+     * @return true when the search is over
+     */
+    private boolean searchSpawnStep() {
+        if (gameState != RunState.GENERATING_WORLD)
+            return true;
+
+        ServerWorld overworld = worldService.getOverworld();
+        if (overworld == null) {
+            SoulLink.LOGGER.error("No overworld handle during generation!");
+            gameState = RunState.IDLE;
+            return true;
+        }
+
+        if (spawnFinder.processStep(overworld)) {
+            transitionToRunning();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Transitions from GENERATING_WORLD to RUNNING. Players are reset and teleported one after
+     * another in budgeted steps, and the rest of the setup runs once all of them are in.
      */
     private void transitionToRunning() {
         ServerWorld overworld = worldService.getOverworld();
@@ -285,11 +332,42 @@ public class RunManager {
             manhuntManager.assignPlayersToTeams(server);
         }
 
-        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-            boolean syncToShared = !manhunt || manhuntManager.isSpeedrunner(player);
-            teleportService.teleportToSpawn(player, overworld, spawnPos, timerService,
-                    syncToShared);
-        }
+        List<ServerPlayerEntity> players =
+                new ArrayList<>(server.getPlayerManager().getPlayerList());
+        BlockPos targetPos = spawnPos;
+        int[] next = {0};
+        TickBudgetExecutor.Job[] current = {null};
+        TickBudgetExecutor.submit(() -> {
+            if (gameState != RunState.RUNNING)
+                return true;
+
+            // Each player's advancement reset runs to completion before they are teleported
+            if (current[0] != null) {
+                if (current[0].step()) {
+                    current[0] = null;
+                }
+                return false;
+            }
+            if (next[0] < players.size()) {
+                ServerPlayerEntity player = players.get(next[0]++);
+                if (!player.isDisconnected()) {
+                    boolean syncToShared = !manhunt || manhuntManager.isSpeedrunner(player);
+                    current[0] = teleportService.resetAndTeleport(player, overworld, targetPos,
+                            timerService, syncToShared);
+                }
+                return false;
+            }
+
+            finishTransition(manhunt, manhuntManager);
+            return true;
+        });
+    }
+
+    /**
+     * Completes the run setup after every player was teleported.
+     */
+    private void finishTransition(boolean manhunt, ManhuntManager manhuntManager) {
+        SoulLinkParticipants.rebuild(server);
 
         worldService.deleteOldWorlds();
 
@@ -334,7 +412,7 @@ public class RunManager {
             final int secondsRemaining = i;
             int delayTicks = (HEAD_START_SECONDS - i) * 20;
 
-            EventRegistry.scheduleDelayed(delayTicks, () -> {
+            EventRegistry.scheduleDelayed(EventRegistry.runScope(), delayTicks, () -> {
                 if (gameState != RunState.RUNNING)
                     return;
                 for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
@@ -351,7 +429,7 @@ public class RunManager {
             });
         }
 
-        EventRegistry.scheduleDelayed(HEAD_START_SECONDS * 20, () -> {
+        EventRegistry.scheduleDelayed(EventRegistry.runScope(), HEAD_START_SECONDS * 20, () -> {
             if (gameState != RunState.RUNNING)
                 return;
             for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
@@ -418,9 +496,16 @@ public class RunManager {
                             formatMessage(
                                     "A run is in progress. You are spectating until it ends."),
                             false);
+                } else if (SoulLinkParticipants.groupFor(player).isEliminated()) {
+                    player.changeGameMode(GameMode.SPECTATOR);
+                    player.getInventory().clear();
+                    player.clearStatusEffects();
+                    player.sendMessage(formatMessage(
+                            "Your team was eliminated. You are spectating until the run ends."),
+                            false);
                 } else {
-                    teleportService.teleportToSpawn(player, overworld, spawnFinder.getSpawnPos(),
-                            timerService, true);
+                    TickBudgetExecutor.submit(teleportService.resetAndTeleport(player, overworld,
+                            spawnFinder.getSpawnPos(), timerService, true));
                     player.sendMessage(formatMessageWithPlayer("", player.getName().getString(),
                             " joined. Stats synced."), false);
                 }
@@ -430,6 +515,52 @@ public class RunManager {
 
     // ==================== GAME END STATES ====================
 
+    /**
+     * Handles the shared health of one linked group running out. While another group still has
+     * players, only this group is out: its members become spectators and the run continues.
+     * Otherwise (or if the player who died was in no group) this is a regular game over.
+     */
+    public synchronized void eliminateGroup(SoulLinkGroup group) {
+        if (gameState != RunState.RUNNING) {
+            return;
+        }
+
+        if (group != null && group.isEliminated()) {
+            return;
+        }
+        if (group == null || !SoulLinkParticipants.hasOtherActiveGroup(group)) {
+            // Keep a journal of runs lost to death; manual stops (/stoprun, /reset) write none
+            StatJournal.writeAsync(server);
+            triggerGameOver();
+            return;
+        }
+
+        ServerPlayerEntity[] members = Arrays.copyOf(group.members(), group.count());
+        SoulLinkParticipants.eliminate(group);
+
+        String finalTime = timerService.getFormattedTime();
+        for (ServerPlayerEntity player : members) {
+            player.changeGameMode(GameMode.SPECTATOR);
+            player.getInventory().clear();
+
+            ServerWorld world = getPlayerWorld(player);
+            if (world != null) {
+                world.playSound(null, player.getX(), player.getY(), player.getZ(),
+                        SoundEvents.ENTITY_WITHER_DEATH, SoundCategory.PLAYERS, 0.5f, 0.8f);
+            }
+
+            player.networkHandler.sendPacket(new TitleS2CPacket(
+                    Text.literal("ELIMINATED").formatted(Formatting.RED, Formatting.BOLD)));
+            player.networkHandler.sendPacket(
+                    new SubtitleS2CPacket(Text.literal(finalTime).formatted(Formatting.WHITE)));
+        }
+
+        String name = group.getId().equals(SoulLinkGroup.DEFAULT_ID) ? "Players without a team"
+                : "Team " + group.getId();
+        server.getPlayerManager().broadcast(
+                formatMessage(name + " has been eliminated at " + finalTime + "."), false);
+    }
+
     /**
      * Handles game over - all players died.
      */
@@ -442,6 +573,8 @@ public class RunManager {
 
         timerService.stop();
         gameState = RunState.GAMEOVER;
+        EventRegistry.cancelRunTasks();
+        SoulLinkParticipants.clear();
 
         ManhuntManager.getInstance().cleanupTeams(server);
         CompassTrackingHandler.reset();
@@ -478,6 +611,9 @@ public class RunManager {
                 .append(Text.literal(" to start a new attempt.").formatted(Formatting.GRAY));
 
         server.getPlayerManager().broadcast(restartMessage, false);
+
+        // Prepare the next world while players are on the game over screen
+        warmWorldPool.refill();
     }
 
     /**
@@ -492,6 +628,8 @@ public class RunManager {
 
         timerService.stop();
         gameState = RunState.GAMEOVER;
+        EventRegistry.cancelRunTasks();
+        SoulLinkParticipants.clear();
 
         ManhuntManager.getInstance().cleanupTeams(server);
         CompassTrackingHandler.reset();
@@ -528,6 +666,9 @@ public class RunManager {
                 .append(Text.literal("/start").formatted(Formatting.GOLD))
                 .append(Text.literal(" to challenge again.").formatted(Formatting.GRAY));
         server.getPlayerManager().broadcast(restartMessage, false);
+
+        // Prepare the next world while players are on the victory screen
+        warmWorldPool.refill();
     }
 
     // ==================== HELPER METHODS ====================
@@ -624,6 +765,58 @@ public class RunManager {
         teleportService.teleportToVanillaSpawn(player);
     }
 
+    // ==================== LAZY DIMENSIONS ====================
+
+    /**
+     * Returns the run's Nether, creating it now if no prewarm job got to it first. Called when a
+     * player enters a portal in the temporary Overworld.
+     */
+    public ServerWorld ensureTemporaryNether() {
+        return worldService.ensureNether();
+    }
+
+    /**
+     * Returns the run's End, creating it now if no prewarm job got to it first. Called when a
+     * player enters the End portal.
+     */
+    public ServerWorld ensureTemporaryEnd() {
+        return worldService.ensureEnd();
+    }
+
+    /**
+     * Creates the run's Nether in a budgeted job, off the tick of the trigger. Called when a Nether
+     * portal is lit, so the world exists before anyone walks through.
+     */
+    public void prewarmNether() {
+        if (!isRunActive() || worldService.getNether() != null)
+            return;
+        TickBudgetExecutor.submit(() -> {
+            if (isRunActive()) {
+                worldService.ensureNether();
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Creates the run's End in a budgeted job and then generates its central island. Called when an
+     * Eye of Ender is thrown or placed, so the End is ready by the time the portal opens.
+     */
+    public void prewarmEnd() {
+        if (!isRunActive() || worldService.getEnd() != null)
+            return;
+        TickBudgetExecutor.submit(() -> {
+            // Another trigger may have queued this job already
+            if (!isRunActive() || worldService.getEnd() != null)
+                return true;
+            ServerWorld end = worldService.ensureEnd();
+            if (end != null) {
+                TickBudgetExecutor.submit(EndInitializer.prewarm(this, end));
+            }
+            return true;
+        });
+    }
+
     // ==================== GETTERS ====================
 
     public RunState getGameState() {
@@ -685,6 +878,14 @@ public class RunManager {
         return spawnFinder != null ? spawnFinder.getSpawnPos() : null;
     }
 
+    /**
+     * Starts filling the warm world pool if it isn't full. Called once the settings are loaded on
+     * server start; afterwards the pool refills at the end of every run.
+     */
+    public void refillWarmWorlds() {
+        warmWorldPool.refill();
+    }
+
     public MinecraftServer getServer() {
         return server;
     }
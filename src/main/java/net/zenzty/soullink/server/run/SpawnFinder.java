@@ -17,13 +17,13 @@ import net.zenzty.soullink.SoulLink;
 
 /**
  * Handles incremental spawn location search to prevent server freezes during world generation. Uses
- * a spiral pattern search optimized with biome pre-checking.
+ * a spiral pattern search optimized with biome pre-checking. The search runs one candidate per step
+ * on the TickBudgetExecutor, so it checks as many spots per tick as the tick budget allows.
  */
 public class SpawnFinder {
 
     private static final int MAX_SEARCH_RADIUS = 500;
     private static final int SEARCH_STEP = 32;
-    private static final int CHECKS_PER_TICK = 5;
 
     // Incremental spawn search state
     private int searchRadius = 0;
@@ -48,6 +48,13 @@ public class SpawnFinder {
         return validSpawnPos;
     }
 
+    /**
+     * Uses an already located spawn (from a pre-generated world) instead of searching.
+     */
+    public void useKnownSpawn(BlockPos spawnPos) {
+        validSpawnPos = spawnPos;
+    }
+
     /**
      * Checks if a valid spawn has been found.
      */
@@ -56,52 +63,50 @@ public class SpawnFinder {
     }
 
     /**
-     * Processes one step of the generation (checks a few spawn locations per tick).
+     * Checks the next spawn location of the search.
      *
      * @param world The world to search in
-     * @param server The server for broadcasting progress
      * @return true if spawn found or search exhausted, false if still searching
      */
-    public boolean processStep(ServerWorld world, MinecraftServer server) {
-        int checksThisTick = 0;
+    public boolean processStep(ServerWorld world) {
+        if (validSpawnPos != null)
+            return true;
 
-        // Check multiple spots per tick to speed up without freezing
-        while (checksThisTick < CHECKS_PER_TICK) {
-            int[] pos = getNextSearchPos();
-
-            if (pos == null) {
-                // Exhausted all search positions - no valid spawn found
-                SoulLink.LOGGER.warn("No valid spawn found after exhaustive search");
-                return true;
-            }
-
-            BlockPos candidate = checkSpawnLocation(world, pos[0], pos[1]);
-            if (candidate != null) {
-                // Found valid spawn!
-                validSpawnPos = candidate;
-                SoulLink.LOGGER.info("Found land spawn at {} after searching radius {}", candidate,
-                        searchRadius);
-                return true;
-            }
+        int[] pos = getNextSearchPos();
 
-            checksThisTick++;
+        if (pos == null) {
+            // Exhausted all search positions - no valid spawn found
+            SoulLink.LOGGER.warn("No valid spawn found after exhaustive search");
+            return true;
         }
 
-        // Update action bar with progress for all players
-        if (server.getTicks() % 10 == 0) {
-            int progress = Math.min(100, (searchRadius * 100) / MAX_SEARCH_RADIUS);
-            Text statusText = Text.empty().append(Text.literal("⟳ ").formatted(Formatting.GRAY))
-                    .append(Text.literal("Finding spawn... " + progress + "%")
-                            .formatted(Formatting.GRAY));
-
-            for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                player.sendMessage(statusText, true);
-            }
+        BlockPos candidate = checkSpawnLocation(world, pos[0], pos[1]);
+        if (candidate != null) {
+            // Found valid spawn!
+            validSpawnPos = candidate;
+            SoulLink.LOGGER.info("Found land spawn at {} after searching radius {}", candidate,
+                    searchRadius);
+            return true;
         }
 
         return false;
     }
 
+    /**
+     * Updates the action bar of all players with the search progress. Called every few ticks
+     * while searching.
+     */
+    public void sendProgress(MinecraftServer server) {
+        int progress = Math.min(100, (searchRadius * 100) / MAX_SEARCH_RADIUS);
+        Text statusText = Text.empty().append(Text.literal("⟳ ").formatted(Formatting.GRAY))
+                .append(Text.literal("Finding spawn... " + progress + "%")
+                        .formatted(Formatting.GRAY));
+
+        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+            player.sendMessage(statusText, true);
+        }
+    }
+
     /**
      * Checks if coordinates are in an ocean biome WITHOUT loading the chunk.
      */
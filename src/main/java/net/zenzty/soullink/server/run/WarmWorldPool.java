@@ -0,0 +1,172 @@
+package net.zenzty.soullink.server.run;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.function.BooleanSupplier;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.Difficulty;
+import net.zenzty.soullink.SoulLink;
+import net.zenzty.soullink.server.event.TickBudgetExecutor;
+import net.zenzty.soullink.server.settings.Settings;
+
+/**
+ * Pool of pre-generated world sets so /start can begin a run without waiting for generation. Each
+ * pooled set is an Overworld (the Nether and End are created during the run when needed) with its
+ * spawn located and the chunks around it force-loaded. The pool is refilled by a budgeted job that
+ * only runs while no run is in progress (idle or game over), up to
+ * Settings.getWarmWorldPoolSize() sets.
+ *
+ * Used on the server thread only.
+ */
+public class WarmWorldPool {
+
+    // Chunks force-loaded around a pooled spawn (3x3)
+    private static final int SPAWN_CHUNK_RADIUS = 1;
+    private static final int SPAWN_CHUNK_SIDE = SPAWN_CHUNK_RADIUS * 2 + 1;
+
+    /**
+     * A ready world set and the spawn found in its Overworld.
+     */
+    record Entry(WorldSet worlds, BlockPos spawnPos) {
+    }
+
+    private final WorldService worldService;
+    private final BooleanSupplier mayRefill;
+    private final ArrayDeque<Entry> ready = new ArrayDeque<>();
+
+    // World set being prepared by the refill job
+    private WorldSet building = null;
+    private final SpawnFinder spawnFinder = new SpawnFinder();
+    private boolean searchDone = false;
+    private int nextChunk = 0;
+
+    private boolean refilling = false;
+
+    /**
+     * @param mayRefill Whether the pool may generate right now (no run in progress)
+     */
+    WarmWorldPool(WorldService worldService, BooleanSupplier mayRefill) {
+        this.worldService = worldService;
+        this.mayRefill = mayRefill;
+    }
+
+    /**
+     * Starts the refill job unless it is already running or the pool is disabled. Called when a
+     * run ends and on server start.
+     */
+    public void refill() {
+        if (refilling || Settings.getInstance().getWarmWorldPoolSize() == 0)
+            return;
+        refilling = true;
+        TickBudgetExecutor.submit(this::refillStep);
+    }
+
+    /**
+     * Marks the refill job as stopped after the executor dropped it. A world set in preparation is
+     * kept and continues with the next refill.
+     */
+    void onJobsCleared() {
+        refilling = false;
+    }
+
+    /**
+     * Takes a ready world set generated with the given difficulty, or returns null if none is
+     * ready. Sets generated with another difficulty (settings changed since) are deleted.
+     */
+    Entry take(Difficulty difficulty) {
+        Iterator<Entry> it = ready.iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.worlds().difficulty != difficulty) {
+                it.remove();
+                worldService.discard(entry.worlds(), "stale pooled");
+            }
+        }
+        return ready.poll();
+    }
+
+    /**
+     * Stops force-loading the spawn chunks of a taken entry, so the flag does not carry into the
+     * run. The chunks stay generated, and the players' arrival keeps them loaded.
+     */
+    void release(Entry entry) {
+        ServerWorld overworld = entry.worlds().overworld.asWorld();
+        for (int i = 0; i < SPAWN_CHUNK_SIDE * SPAWN_CHUNK_SIDE; i++) {
+            setSpawnChunkForced(overworld, entry.spawnPos(), i, false);
+        }
+    }
+
+    /**
+     * Deletes every pooled and in-preparation world set. Called when the server stops.
+     */
+    void clear() {
+        for (Entry entry : ready) {
+            worldService.discard(entry.worlds(), "pooled");
+        }
+        ready.clear();
+        if (building != null) {
+            worldService.discard(building, "pooled");
+            building = null;
+        }
+        refilling = false;
+    }
+
+    public int readyCount() {
+        return ready.size();
+    }
+
+    /**
+     * One step of the refill job: creates a world set, then checks one spawn candidate or forces
+     * one spawn chunk per step.
+     */
+    private boolean refillStep() {
+        if (!mayRefill.getAsBoolean()
+                || ready.size() >= Settings.getInstance().getWarmWorldPoolSize()) {
+            refilling = false;
+            return true;
+        }
+
+        if (building == null) {
+            building = worldService.createWorldSet();
+            spawnFinder.reset();
+            searchDone = false;
+            nextChunk = 0;
+            return false;
+        }
+
+        ServerWorld overworld = building.overworld.asWorld();
+        if (!searchDone) {
+            searchDone = spawnFinder.processStep(overworld);
+            return false;
+        }
+
+        if (!spawnFinder.hasFoundSpawn()) {
+            // No land spawn in this seed - discard it and try another
+            worldService.discard(building, "pooled");
+            building = null;
+            return false;
+        }
+
+        BlockPos spawnPos = spawnFinder.getSpawnPos();
+        if (nextChunk < SPAWN_CHUNK_SIDE * SPAWN_CHUNK_SIDE) {
+            setSpawnChunkForced(overworld, spawnPos, nextChunk++, true);
+            return false;
+        }
+
+        ready.add(new Entry(building, spawnPos));
+        building = null;
+        SoulLink.LOGGER.info("Pre-generated world ready ({} pooled)", ready.size());
+        return false;
+    }
+
+    /**
+     * Sets the forced flag of the i-th chunk of the square around a spawn.
+     */
+    private static void setSpawnChunkForced(ServerWorld world, BlockPos spawnPos, int i,
+            boolean forced) {
+        int chunkX = (spawnPos.getX() >> 4) + i % SPAWN_CHUNK_SIDE - SPAWN_CHUNK_RADIUS;
+        int chunkZ = (spawnPos.getZ() >> 4) + i / SPAWN_CHUNK_SIDE - SPAWN_CHUNK_RADIUS;
+        world.setChunkForced(chunkX, chunkZ, forced);
+    }
+}
@@ -6,6 +6,7 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.world.Difficulty;
 import net.minecraft.world.World;
+import net.minecraft.world.dimension.DimensionType;
 import net.minecraft.world.dimension.DimensionTypes;
 import net.minecraft.world.rule.GameRules;
 import net.zenzty.soullink.SoulLink;
@@ -23,18 +24,14 @@ public class WorldService {
     private final MinecraftServer server;
     private final Fantasy fantasy;
 
-    // Temporary world handles
-    private RuntimeWorldHandle overworldHandle;
-    private RuntimeWorldHandle netherHandle;
-    private RuntimeWorldHandle endHandle;
+    // Worlds of the current run
+    private WorldSet current;
 
-    // Old world handles (to delete after teleporting to new world)
-    private RuntimeWorldHandle oldOverworldHandle;
-    private RuntimeWorldHandle oldNetherHandle;
-    private RuntimeWorldHandle oldEndHandle;
+    // Worlds of the previous run (to delete after teleporting to the new worlds)
+    private WorldSet old;
 
-    // Current run seed
-    private long currentSeed;
+    // Discarded worlds waiting to be deleted, one dimension per tick
+    private final WorldTeardownQueue teardownQueue = new WorldTeardownQueue();
 
     public WorldService(MinecraftServer server) {
         this.server = server;
@@ -42,13 +39,23 @@ public class WorldService {
     }
 
     /**
-     * Creates the three temporary dimensions: Overworld, Nether, and End.
+     * Creates a new temporary Overworld and makes it the current world. The Nether and End are
+     * created on first use, see {@link #ensureNether()} and {@link #ensureEnd()}.
      *
      * @return The generated seed used for all worlds
      */
     public long createTemporaryWorlds() {
+        use(createWorldSet());
+        return current.seed;
+    }
+
+    /**
+     * Creates a new world set with only its Overworld from a fresh seed without making it current.
+     * Used directly by the warm world pool.
+     */
+    WorldSet createWorldSet() {
         // Generate new seed for this run
-        currentSeed = new Random().nextLong();
+        long seed = new Random().nextLong();
 
         // Get the difficulty from settings
         Difficulty serverDifficulty = Settings.getInstance().getDifficulty();
@@ -57,41 +64,65 @@ public class WorldService {
         ServerWorld vanillaOverworld = server.getOverworld();
         RuntimeWorldConfig overworldConfig = new RuntimeWorldConfig()
                 .setDimensionType(DimensionTypes.OVERWORLD).setDifficulty(serverDifficulty)
-                .setGameRule(GameRules.ADVANCE_TIME, true).setSeed(currentSeed)
+                .setGameRule(GameRules.ADVANCE_TIME, true).setSeed(seed)
                 .setGenerator(vanillaOverworld.getChunkManager().getChunkGenerator());
 
-        overworldHandle = fantasy.openTemporaryWorld(overworldConfig);
+        RuntimeWorldHandle overworldHandle = fantasy.openTemporaryWorld(overworldConfig);
         overworldHandle.asWorld().setTimeOfDay(0);
         SoulLink.LOGGER.info("Created temporary overworld: {}",
                 overworldHandle.getRegistryKey().getValue());
 
-        // Create temporary Nether
-        ServerWorld vanillaNether = server.getWorld(World.NETHER);
-        if (vanillaNether != null) {
-            RuntimeWorldConfig netherConfig =
-                    new RuntimeWorldConfig().setDimensionType(DimensionTypes.THE_NETHER)
-                            .setDifficulty(serverDifficulty).setSeed(currentSeed)
-                            .setGenerator(vanillaNether.getChunkManager().getChunkGenerator());
-
-            netherHandle = fantasy.openTemporaryWorld(netherConfig);
-            SoulLink.LOGGER.info("Created temporary nether: {}",
-                    netherHandle.getRegistryKey().getValue());
+        return new WorldSet(seed, serverDifficulty, overworldHandle);
+    }
+
+    /**
+     * Returns the current temporary Nether, creating it from the run's seed the first time it is
+     * needed. Returns null if there are no current worlds or the server has no Nether.
+     */
+    public ServerWorld ensureNether() {
+        if (current != null && current.nether == null) {
+            current.nether =
+                    openDimension(current, World.NETHER, DimensionTypes.THE_NETHER, "nether");
         }
+        return getNether();
+    }
 
-        // Create temporary End
-        ServerWorld vanillaEnd = server.getWorld(World.END);
-        if (vanillaEnd != null) {
-            RuntimeWorldConfig endConfig =
-                    new RuntimeWorldConfig().setDimensionType(DimensionTypes.THE_END)
-                            .setDifficulty(serverDifficulty).setSeed(currentSeed)
-                            .setGenerator(vanillaEnd.getChunkManager().getChunkGenerator());
-
-            endHandle = fantasy.openTemporaryWorld(endConfig);
-            SoulLink.LOGGER.info("Created temporary end: {}",
-                    endHandle.getRegistryKey().getValue());
+    /**
+     * Returns the current temporary End, creating it from the run's seed the first time it is
+     * needed. Returns null if there are no current worlds or the server has no End.
+     */
+    public ServerWorld ensureEnd() {
+        if (current != null && current.end == null) {
+            current.end = openDimension(current, World.END, DimensionTypes.THE_END, "end");
         }
+        return getEnd();
+    }
 
-        return currentSeed;
+    /**
+     * Opens a temporary copy of a vanilla dimension with the seed and difficulty of a world set.
+     * Returns null if the server has no such dimension to copy the generator from.
+     */
+    private RuntimeWorldHandle openDimension(WorldSet worlds, RegistryKey<World> vanillaKey,
+            RegistryKey<DimensionType> dimensionType, String name) {
+        ServerWorld vanillaWorld = server.getWorld(vanillaKey);
+        if (vanillaWorld == null) {
+            return null;
+        }
+
+        RuntimeWorldConfig config = new RuntimeWorldConfig().setDimensionType(dimensionType)
+                .setDifficulty(worlds.difficulty).setSeed(worlds.seed)
+                .setGenerator(vanillaWorld.getChunkManager().getChunkGenerator());
+
+        RuntimeWorldHandle handle = fantasy.openTemporaryWorld(config);
+        SoulLink.LOGGER.info("Created temporary {}: {}", name, handle.getRegistryKey().getValue());
+        return handle;
+    }
+
+    /**
+     * Makes a world set (new or taken from the warm pool) the current worlds.
+     */
+    void use(WorldSet worlds) {
+        current = worlds;
     }
 
     /**
@@ -99,51 +130,49 @@ public class WorldService {
      * worlds.
      */
     public void saveCurrentWorldsAsOld() {
-        oldOverworldHandle = overworldHandle;
-        oldNetherHandle = netherHandle;
-        oldEndHandle = endHandle;
-        overworldHandle = null;
-        netherHandle = null;
-        endHandle = null;
-    }
-
-    private void safeDeleteWorld(RuntimeWorldHandle handle, String worldName) {
-        if (handle != null) {
-            try {
-                handle.delete();
-                SoulLink.LOGGER.info("Deleted {}", worldName);
-            } catch (Exception e) {
-                SoulLink.LOGGER.error("Failed to delete {}", worldName, e);
-            }
-        }
+        old = current;
+        current = null;
     }
 
     /**
-     * Deletes the old world handles saved from previous run.
+     * Queues the old world handles saved from previous run for deletion.
      */
     public void deleteOldWorlds() {
-        safeDeleteWorld(oldOverworldHandle, "old temporary overworld");
-        oldOverworldHandle = null;
-
-        safeDeleteWorld(oldNetherHandle, "old temporary nether");
-        oldNetherHandle = null;
-
-        safeDeleteWorld(oldEndHandle, "old temporary end");
-        oldEndHandle = null;
+        if (old != null) {
+            teardownQueue.enqueue(old, "old temporary");
+            old = null;
+        }
     }
 
     /**
-     * Deletes all current temporary worlds.
+     * Queues all current temporary worlds for deletion.
      */
     public void deleteCurrentWorlds() {
-        safeDeleteWorld(overworldHandle, "temporary overworld");
-        overworldHandle = null;
+        if (current != null) {
+            teardownQueue.enqueue(current, "temporary");
+            current = null;
+        }
+    }
 
-        safeDeleteWorld(netherHandle, "temporary nether");
-        netherHandle = null;
+    /**
+     * Queues a world set that never became current (e.g. from the warm pool) for deletion.
+     */
+    void discard(WorldSet worlds, String label) {
+        teardownQueue.enqueue(worlds, label);
+    }
 
-        safeDeleteWorld(endHandle, "temporary end");
-        endHandle = null;
+    /**
+     * Deletes the next queued world. Called every server tick.
+     */
+    public void tickTeardown() {
+        teardownQueue.tick();
+    }
+
+    /**
+     * Deletes all queued worlds immediately. Called when the server stops.
+     */
+    public void flushTeardown() {
+        teardownQueue.flush();
     }
 
     /**
@@ -164,31 +193,31 @@ public class WorldService {
     // ==================== GETTERS ====================
 
     public ServerWorld getOverworld() {
-        return overworldHandle != null ? overworldHandle.asWorld() : null;
+        return current != null ? current.overworld.asWorld() : null;
     }
 
     public ServerWorld getNether() {
-        return netherHandle != null ? netherHandle.asWorld() : null;
+        return current != null && current.nether != null ? current.nether.asWorld() : null;
     }
 
     public ServerWorld getEnd() {
-        return endHandle != null ? endHandle.asWorld() : null;
+        return current != null && current.end != null ? current.end.asWorld() : null;
     }
 
     public RegistryKey<World> getOverworldKey() {
-        return overworldHandle != null ? overworldHandle.getRegistryKey() : null;
+        return current != null ? current.overworld.getRegistryKey() : null;
     }
 
     public RegistryKey<World> getNetherKey() {
-        return netherHandle != null ? netherHandle.getRegistryKey() : null;
+        return current != null && current.nether != null ? current.nether.getRegistryKey() : null;
     }
 
     public RegistryKey<World> getEndKey() {
-        return endHandle != null ? endHandle.getRegistryKey() : null;
+        return current != null && current.end != null ? current.end.getRegistryKey() : null;
     }
 
     public long getCurrentSeed() {
-        return currentSeed;
+        return current != null ? current.seed : 0L;
     }
 
     /**
@@ -0,0 +1,24 @@
+package net.zenzty.soullink.server.run;
+
+import net.minecraft.world.Difficulty;
+import xyz.nucleoid.fantasy.RuntimeWorldHandle;
+
+/**
+ * The temporary Overworld, Nether and End of one run, generated from the same seed. Only the
+ * Overworld is created up front; the Nether and End stay null until the run first needs them, or
+ * for good when the server has no such dimension to copy the generator from.
+ */
+final class WorldSet {
+
+    final long seed;
+    final Difficulty difficulty;
+    final RuntimeWorldHandle overworld;
+    RuntimeWorldHandle nether;
+    RuntimeWorldHandle end;
+
+    WorldSet(long seed, Difficulty difficulty, RuntimeWorldHandle overworld) {
+        this.seed = seed;
+        this.difficulty = difficulty;
+        this.overworld = overworld;
+    }
+}
@@ -0,0 +1,66 @@
+package net.zenzty.soullink.server.run;
+
+import java.util.ArrayDeque;
+import net.zenzty.soullink.SoulLink;
+import xyz.nucleoid.fantasy.RuntimeWorldHandle;
+
+/**
+ * Deletes discarded temporary worlds one dimension per tick instead of all at once. Deleting a
+ * Fantasy world unloads it and removes its files on Fantasy's next tick, so handing over one
+ * dimension per tick keeps that work out of the tick that teleports players into a new run.
+ *
+ * Used on the server thread only.
+ */
+final class WorldTeardownQueue {
+
+    private record PendingDeletion(RuntimeWorldHandle handle, String name) {
+    }
+
+    private final ArrayDeque<PendingDeletion> pending = new ArrayDeque<>();
+
+    /**
+     * Queues every world of a set for deletion.
+     *
+     * @param label Describes the set in log messages, e.g. "old temporary"
+     */
+    void enqueue(WorldSet worlds, String label) {
+        enqueue(worlds.overworld, label + " overworld");
+        enqueue(worlds.nether, label + " nether");
+        enqueue(worlds.end, label + " end");
+    }
+
+    private void enqueue(RuntimeWorldHandle handle, String name) {
+        if (handle != null) {
+            pending.add(new PendingDeletion(handle, name));
+        }
+    }
+
+    /**
+     * Deletes the next queued world. Called once per server tick.
+     */
+    void tick() {
+        PendingDeletion next = pending.poll();
+        if (next != null) {
+            delete(next);
+        }
+    }
+
+    /**
+     * Deletes all queued worlds now. Used when the server stops and no more ticks will come.
+     */
+    void flush() {
+        PendingDeletion next;
+        while ((next = pending.poll()) != null) {
+            delete(next);
+        }
+    }
+
+    private static void delete(PendingDeletion deletion) {
+        try {
+            deletion.handle().delete();
+            SoulLink.LOGGER.info("Deleted {}", deletion.name());
+        } catch (Exception e) {
+            SoulLink.LOGGER.error("Failed to delete {}", deletion.name(), e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package net.zenzty.soullink.server.settings;
 
+import java.util.List;
 import net.minecraft.world.Difficulty;
 import net.zenzty.soullink.SoulLink;
 import net.zenzty.soullink.server.run.RunManager;
@@ -13,6 +14,10 @@ public class Settings {
 
     private static final Settings instance = new Settings();
 
+    public static final List<String> DEFAULT_PERIODIC_DAMAGE_TYPES = List.of("minecraft:wither",
+            "minecraft:freeze", "minecraft:on_fire", "minecraft:drown", "minecraft:cactus",
+            "minecraft:sweet_berry_bush", "minecraft:hot_floor", "minecraft:starve");
+
     // Current active settings (used during runs)
     private Difficulty difficulty = Difficulty.NORMAL;
     private boolean halfHeartMode = false;
@@ -20,6 +25,29 @@ public class Settings {
     private boolean sharedJumping = false;
     private boolean manhuntMode = false;
     private boolean damageLogEnabled = true; // Combat log - can be toggled immediately
+    private int combatLogWindowTicks = 40; // Hits are merged over this window, settings file only
+
+    // Damage types (ids or #tags) normalized by player count as periodic damage. Server config,
+    // only editable in the settings file.
+    private List<String> periodicDamageTypes = DEFAULT_PERIODIC_DAMAGE_TYPES;
+
+    // Ticks between full shared stat audits (0 disables). Server config, settings file only.
+    private int statAuditIntervalTicks = 1200;
+
+    // Replay shared hits as packets only instead of running vanilla damage. Settings file only.
+    private boolean lightweightDamageReplication = true;
+
+    // Simulate hunger and natural regen once per group instead of per player. Settings file only.
+    private boolean centralHungerSimulation = false;
+
+    // Stat journal files kept in the world folder (0 disables writing). Settings file only.
+    private int journalFileLimit = 10;
+
+    // Link players per scoreboard team instead of all together. Settings file only.
+    private boolean teamGroups = false;
+
+    // Pre-generated worlds kept ready for /start (0 disables). Settings file only.
+    private int warmWorldPoolSize = 1;
 
     // Pending settings to be applied on next run
     private SettingsSnapshot pendingSnapshot = null;
@@ -117,6 +145,120 @@ public class Settings {
         this.damageLogEnabled = damageLogEnabled;
     }
 
+    /**
+     * Ticks over which combat log hits are merged per player and source before being broadcast.
+     */
+    public int getCombatLogWindowTicks() {
+        return combatLogWindowTicks;
+    }
+
+    public void setCombatLogWindowTicks(int combatLogWindowTicks) {
+        this.combatLogWindowTicks = Math.max(1, combatLogWindowTicks);
+    }
+
+    // ==================== PERIODIC DAMAGE ====================
+
+    /**
+     * Damage type ids (e.g. "minecraft:freeze") or tags (e.g. "#minecraft:is_fire") whose damage is
+     * divided by player count instead of being multiplied across the group. Poison is handled
+     * separately since vanilla deals it as magic damage.
+     */
+    public List<String> getPeriodicDamageTypes() {
+        return periodicDamageTypes;
+    }
+
+    public void setPeriodicDamageTypes(List<String> periodicDamageTypes) {
+        this.periodicDamageTypes = List.copyOf(periodicDamageTypes);
+    }
+
+    // ==================== STAT AUDIT ====================
+
+    /**
+     * Ticks between full audits of every linked player's stats. Players whose stats were touched
+     * outside the sync path are checked every second regardless; the full audit is a safety net for
+     * changes no hook sees. 0 disables it.
+     */
+    public int getStatAuditIntervalTicks() {
+        return statAuditIntervalTicks;
+    }
+
+    public void setStatAuditIntervalTicks(int statAuditIntervalTicks) {
+        this.statAuditIntervalTicks = Math.max(0, statAuditIntervalTicks);
+    }
+
+    // ==================== DAMAGE REPLICATION ====================
+
+    /**
+     * When true, linked players who were not hit get their shared health set directly plus a hurt
+     * animation/sound and health update packet. When false, a generic vanilla damage call is
+     * replayed on each of them (armor, invulnerability frames and damage callbacks included).
+     */
+    public boolean isLightweightDamageReplication() {
+        return lightweightDamageReplication;
+    }
+
+    public void setLightweightDamageReplication(boolean lightweightDamageReplication) {
+        this.lightweightDamageReplication = lightweightDamageReplication;
+    }
+
+    // ==================== HUNGER SIMULATION ====================
+
+    /**
+     * When true, linked players' own hunger ticks are suppressed: their exhaustion is pooled per
+     * group and hunger drain, natural regen and starvation are simulated once per group each tick.
+     * When false, every player's hunger ticks normally and the results are divided by player count.
+     */
+    public boolean isCentralHungerSimulation() {
+        return centralHungerSimulation;
+    }
+
+    public void setCentralHungerSimulation(boolean centralHungerSimulation) {
+        this.centralHungerSimulation = centralHungerSimulation;
+    }
+
+    // ==================== STAT JOURNAL ====================
+
+    /**
+     * Number of stat journal files kept in the world folder. A journal is written when a run ends
+     * in death and the oldest files beyond this limit are deleted. 0 disables writing.
+     */
+    public int getJournalFileLimit() {
+        return journalFileLimit;
+    }
+
+    public void setJournalFileLimit(int journalFileLimit) {
+        this.journalFileLimit = Math.max(0, journalFileLimit);
+    }
+
+    // ==================== TEAM GROUPS ====================
+
+    /**
+     * When true, players are linked per scoreboard team (players without a team share one group),
+     * so several teams can race on one server. Each player's team is taken when they are first
+     * linked during a run and kept until the run ends. When false, all players share one group.
+     */
+    public boolean isTeamGroups() {
+        return teamGroups;
+    }
+
+    public void setTeamGroups(boolean teamGroups) {
+        this.teamGroups = teamGroups;
+    }
+
+    // ==================== WARM WORLD POOL ====================
+
+    /**
+     * Number of pre-generated world sets (spawn found, spawn chunks loaded) kept ready so /start
+     * can begin a run without waiting for generation. 0 disables the pool.
+     */
+    public int getWarmWorldPoolSize() {
+        return warmWorldPoolSize;
+    }
+
+    public void setWarmWorldPoolSize(int warmWorldPoolSize) {
+        this.warmWorldPoolSize = Math.max(0, warmWorldPoolSize);
+    }
+
     // ==================== UTILITY ====================
 
     /**
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import net.minecraft.server.MinecraftServer;
@@ -102,12 +103,45 @@ public final class SettingsPersistence {
         if (data.manhuntMode != null) {
             s.setManhuntMode(data.manhuntMode);
         }
+        if (data.combatLogWindowTicks != null) {
+            s.setCombatLogWindowTicks(data.combatLogWindowTicks);
+        }
+        if (data.lightweightDamageReplication != null) {
+            s.setLightweightDamageReplication(data.lightweightDamageReplication);
+        }
+        if (data.centralHungerSimulation != null) {
+            s.setCentralHungerSimulation(data.centralHungerSimulation);
+        }
+        if (data.journalFileLimit != null) {
+            s.setJournalFileLimit(data.journalFileLimit);
+        }
+        if (data.teamGroups != null) {
+            s.setTeamGroups(data.teamGroups);
+        }
+        if (data.warmWorldPoolSize != null) {
+            s.setWarmWorldPoolSize(data.warmWorldPoolSize);
+        }
+        if (data.statAuditIntervalTicks != null) {
+            s.setStatAuditIntervalTicks(data.statAuditIntervalTicks);
+        }
+        if (data.periodicDamageTypes != null) {
+            s.setPeriodicDamageTypes(data.periodicDamageTypes.stream()
+                    .filter(id -> id != null && !id.isBlank()).toList());
+        }
     }
 
     private static SettingsData fromSettings() {
         Settings s = Settings.getInstance();
         SettingsData data = new SettingsData();
         data.damageLogEnabled = s.isDamageLogEnabled();
+        data.combatLogWindowTicks = s.getCombatLogWindowTicks();
+        data.periodicDamageTypes = s.getPeriodicDamageTypes();
+        data.statAuditIntervalTicks = s.getStatAuditIntervalTicks();
+        data.lightweightDamageReplication = s.isLightweightDamageReplication();
+        data.centralHungerSimulation = s.isCentralHungerSimulation();
+        data.journalFileLimit = s.getJournalFileLimit();
+        data.teamGroups = s.isTeamGroups();
+        data.warmWorldPoolSize = s.getWarmWorldPoolSize();
         // Use pending chaos snapshot if one exists (user confirmed /chaos changes during a run;
         // those apply next run), otherwise use current applied values.
         Settings.SettingsSnapshot chaos = s.getPendingSnapshotOrNull();
@@ -134,5 +168,13 @@ public final class SettingsPersistence {
         Boolean sharedPotions;
         Boolean sharedJumping;
         Boolean manhuntMode;
+        List<String> periodicDamageTypes;
+        Integer statAuditIntervalTicks;
+        Boolean lightweightDamageReplication;
+        Integer combatLogWindowTicks;
+        Boolean centralHungerSimulation;
+        Integer journalFileLimit;
+        Boolean teamGroups;
+        Integer warmWorldPoolSize;
     }
 }
@@ -6,6 +6,7 @@ import net.minecraft.block.NetherPortalBlock;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
+import net.zenzty.soullink.server.run.RunManager;
 
 /**
  * Utility class for creating nether portals in temporary dimensions. Shared logic for flint and
@@ -15,7 +16,8 @@ public class PortalCreationHelper {
 
     /**
      * Tries to create a nether portal at the given position. Checks for valid obsidian frame and
-     * fills it with portal blocks.
+     * fills it with portal blocks. A lit portal queues creation of the run's Nether, which is only
+     * generated once needed.
      * 
      * @param world The server world
      * @param startPos The position inside the portal frame to start checking from
@@ -23,10 +25,12 @@ public class PortalCreationHelper {
      */
     public static boolean tryCreatePortal(ServerWorld world, BlockPos startPos) {
         // Try X axis first, then Z axis
-        if (createPortalWithAxis(world, startPos, Direction.Axis.X)) {
+        if (createPortalWithAxis(world, startPos, Direction.Axis.X)
+                || createPortalWithAxis(world, startPos, Direction.Axis.Z)) {
+            RunManager.getInstance().prewarmNether();
             return true;
         }
-        return createPortalWithAxis(world, startPos, Direction.Axis.Z);
+        return false;
     }
 
     /**